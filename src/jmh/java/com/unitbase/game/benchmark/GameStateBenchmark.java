@@ -0,0 +1,144 @@
+package com.unitbase.game.benchmark;
+
+import com.unitbase.game.model.Cell;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Player;
+import com.unitbase.game.tournament.MatchPlayer;
+import com.unitbase.game.tournament.RandomBot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of the game engine. Run with the GC profiler (the profile default)
+ * to get gc.alloc.rate.norm, the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameStateBenchmark {
+
+    public enum Board { EMPTY, MID_GAME, FULL }
+
+    /** Board fill for the benchmarks whose cost depends on it; the others run once, not per fill. */
+    @State(Scope.Thread)
+    public static class Filled {
+
+        @Param
+        public Board board;
+
+        GameState game;
+
+        @Setup
+        public void setUp() {
+            game = new GameState("benchmark");
+            game.addPlayer("Player1");
+            game.addPlayer("Player2");
+
+            SplittableRandom random = new SplittableRandom(42);
+            int rings = switch (board) {
+                case EMPTY -> 0;
+                case MID_GAME -> 9;
+                case FULL -> 27;
+            };
+            // Rings are placed directly so checkWin sees a dense board even where
+            // the rules would have ended the game earlier.
+            for (int code = 0, placed = 0; placed < rings; code = (code + 1) % 27) {
+                Cell cell = game.getBoard()[code / 9][code / 3 % 3];
+                String size = GameState.SIZES[code % 3];
+                if (cell.canPlaceRing(size, "RED") && (rings == 27 || random.nextInt(3) == 0)) {
+                    cell.placeRing(size, random.nextBoolean() ? "RED" : "BLUE");
+                    placed++;
+                }
+            }
+        }
+    }
+
+    private Cell stackedCell;
+    private Player player;
+    private final RandomBot randomBot = new RandomBot();
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        stackedCell = new Cell();
+        stackedCell.placeRing("LARGE", "RED");
+        stackedCell.placeRing("SMALL", "BLUE");
+
+        player = new Player("Player1", "RED");
+        for (int i = 0; i < 3; i++) {
+            player.useRing("SMALL");
+            player.useRing("MEDIUM");
+        }
+    }
+
+    /** A scripted five-ring game ending in a win, including creating and joining the game. */
+    @Benchmark
+    public GameState makeMove() {
+        GameState state = new GameState("benchmark");
+        state.addPlayer("Player1");
+        state.addPlayer("Player2");
+        state.makeMove(0, 0, "SMALL", "RED");
+        state.makeMove(1, 0, "SMALL", "BLUE");
+        state.makeMove(0, 1, "MEDIUM", "RED");
+        state.makeMove(1, 1, "SMALL", "BLUE");
+        state.makeMove(0, 2, "LARGE", "RED");
+        return state;
+    }
+
+    /** Baseline for {@link #makeMove()}: the same setup without any move. */
+    @Benchmark
+    public GameState newGame() {
+        GameState state = new GameState("benchmark");
+        state.addPlayer("Player1");
+        state.addPlayer("Player2");
+        return state;
+    }
+
+    @Benchmark
+    public String checkWin(Filled filled) {
+        return filled.game.checkWin();
+    }
+
+    @Benchmark
+    public int legalMoveMask(Filled filled) {
+        return filled.game.legalMoveMask();
+    }
+
+    @Benchmark
+    public void canPlaceRing(Blackhole blackhole) {
+        blackhole.consume(stackedCell.canPlaceRing("SMALL", "RED"));
+        blackhole.consume(stackedCell.canPlaceRing("MEDIUM", "RED"));
+    }
+
+    @Benchmark
+    public void getTopRingOfSize(Blackhole blackhole) {
+        blackhole.consume(stackedCell.getTopRingOfSize("LARGE"));
+        blackhole.consume(stackedCell.getTopRingOfSize("MEDIUM"));
+    }
+
+    @Benchmark
+    public boolean hasAnyRings() {
+        return player.hasAnyRings();
+    }
+
+    @Benchmark
+    public Object randomPlayout() {
+        return MatchPlayer.play(randomBot, randomBot, seed++);
+    }
+}
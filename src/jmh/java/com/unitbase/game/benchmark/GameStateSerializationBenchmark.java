@@ -0,0 +1,74 @@
+package com.unitbase.game.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.serialization.GameStateSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a game with the reflective bean serializer against
+ * {@link GameStateSerializer}. Output goes to a null stream, as it would be
+ * written to the response, so only serialization is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameStateSerializationBenchmark {
+
+    /** Random legal moves played before measuring; the game may finish sooner. */
+    @Param({"0", "6", "27"})
+    public int moves;
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+    private ObjectWriter defaultWriter;
+    private ObjectWriter customWriter;
+    private GameState game;
+
+    @Setup
+    public void setUp() {
+        defaultWriter = new ObjectMapper().writerFor(GameState.class);
+        customWriter = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new GameStateSerializer()))
+                .writerFor(GameState.class);
+        game = new GameState("benchmark");
+        game.addPlayer("Player1");
+        game.addPlayer("Player2");
+        SplittableRandom random = new SplittableRandom(42);
+        int[] codes = new int[Move.MAX_CODES];
+        int count;
+        for (int i = 0; i < moves && (count = game.legalMoves(codes)) > 0; i++) {
+            Move move = Move.decode(codes[random.nextInt(count)]);
+            game.makeMove(move.row(), move.col(), move.size(), game.getCurrentPlayer().getColor());
+        }
+    }
+
+    @Benchmark
+    public void defaultMapper() throws Exception {
+        defaultWriter.writeValue(sink, game);
+    }
+
+    @Benchmark
+    public void handWritten() throws Exception {
+        customWriter.writeValue(sink, game);
+    }
+}
@@ -0,0 +1,108 @@
+package com.unitbase.game.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the controller's per-move log statement under contention, comparing
+ * logging disabled, a synchronous appender (what println amounted to) and the
+ * async appender from logback-spring.xml, at full and at the default sampling rate.
+ * Output goes to a null stream so only the logging machinery is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{36} [game=%X{gameId:-}] - %m%n";
+
+    @Param({"disabled", "sync", "async"})
+    public String mode;
+
+    @Param({"1.0", "0.01"})
+    public double sampleRate;
+
+    private LoggerContext context;
+    private Logger log;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        if (mode.equals("disabled")) {
+            root.setLevel(ch.qos.logback.classic.Level.OFF);
+        } else {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern(PATTERN);
+            encoder.start();
+
+            OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+            sink.setContext(context);
+            sink.setEncoder(encoder);
+            sink.setOutputStream(OutputStream.nullOutputStream());
+            sink.start();
+
+            if (mode.equals("async")) {
+                AsyncAppender async = new AsyncAppender();
+                async.setContext(context);
+                async.setQueueSize(8192);
+                async.setNeverBlock(true);
+                async.addAppender(sink);
+                async.start();
+                root.addAppender(async);
+            } else {
+                root.addAppender(sink);
+            }
+            root.setLevel(ch.qos.logback.classic.Level.INFO);
+        }
+        log = LoggerFactory.getLogger("com.unitbase.game.controller.GameController");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void moveEvent() {
+        MDC.put("gameId", "3f2b6a8e-1c4d-4e8f-9a7b-5d6c7e8f9a0b");
+        try {
+            if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("Move {} {} at {},{} accepted, status={}", "RED", "SMALL", 1, 2, "PLAYING");
+            }
+        } finally {
+            MDC.remove("gameId");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.unitbase.game.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.unitbase.game.model.MoveRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of binding a move body: the old untyped Map with casts
+ * against the MoveRequest record, with and without bean validation.
+ * Compare gc.alloc.rate.norm across the three to get bytes allocated per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBindingBenchmark {
+
+    private static final byte[] BODY = "{\"row\":1,\"col\":2,\"size\":\"LARGE\",\"playerColor\":\"RED\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader mapReader;
+    private ObjectReader moveReader;
+    private Validator validator;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapReader = mapper.readerFor(Map.class);
+        moveReader = mapper.readerFor(MoveRequest.class);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Benchmark
+    public void untypedMap(Blackhole bh) throws Exception {
+        Map<?, ?> move = mapReader.readValue(BODY);
+        bh.consume((Integer) move.get("row"));
+        bh.consume((Integer) move.get("col"));
+        bh.consume((String) move.get("size"));
+        bh.consume((String) move.get("playerColor"));
+    }
+
+    @Benchmark
+    public void typedRecord(Blackhole bh) throws Exception {
+        MoveRequest move = moveReader.readValue(BODY);
+        bh.consume(move.row());
+        bh.consume(move.col());
+        bh.consume(move.size());
+        bh.consume(move.playerColor());
+    }
+
+    @Benchmark
+    public void typedRecordValidated(Blackhole bh) throws Exception {
+        MoveRequest move = moveReader.readValue(BODY);
+        bh.consume(validator.validate(move));
+    }
+}
@@ -0,0 +1,72 @@
+package com.unitbase.game.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.serialization.GameStateSerializer;
+import com.unitbase.game.serialization.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding a game as JSON (hand-written serializer) against {@link WireFormat}.
+ * Payload sizes for each board are printed at setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    /** Random legal moves played before measuring; the game may finish sooner. */
+    @Param({"0", "6", "27"})
+    public int moves;
+
+    private ObjectWriter jsonWriter;
+    private GameState game;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonWriter = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new GameStateSerializer()))
+                .writerFor(GameState.class);
+        game = new GameState("3f2b6a8e-1c4d-4e8f-9a7b-5d6c7e8f9a0b");
+        game.addPlayer("Player1");
+        game.addPlayer("Player2");
+        SplittableRandom random = new SplittableRandom(42);
+        int[] codes = new int[Move.MAX_CODES];
+        int count;
+        for (int i = 0; i < moves && (count = game.legalMoves(codes)) > 0; i++) {
+            Move move = Move.decode(codes[random.nextInt(count)]);
+            game.makeMove(move.row(), move.col(), move.size(), game.getCurrentPlayer().getColor());
+        }
+        System.out.printf("%nPayload bytes after %d moves: json=%d binary=%d%n",
+                moves, json().length, binary().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return jsonWriter.writeValueAsBytes(game);
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        return WireFormat.encode(game);
+    }
+}
@@ -2,8 +2,10 @@ package com.unitbase.game;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TicTacToeApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,130 @@
+package com.unitbase.game.archive;
+
+import com.unitbase.game.cli.CommandLine;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline statistics over an archive, e.g.
+ * <pre>
+ * java -cp target/classes com.unitbase.game.archive.ArchiveAnalytics \
+ *     --dir=archive --format=json --threads=8 --opening-plies=3 --top-openings=10
+ * </pre>
+ * The data file is split into runs of whole blocks (see {@link ArchivedGame}),
+ * which fork-join tasks memory-map and scan independently, each into its own
+ * {@link ArchiveStats}; the partial results are merged as the tasks join. Nothing
+ * is shared between tasks while scanning, so throughput grows with cores until
+ * the disk or page cache becomes the limit. The index is not used. Run it against
+ * a live archive and it reads whatever complete records are there.
+ */
+public class ArchiveAnalytics {
+
+    // Blocks per leaf task: large enough to amortize mapping, small enough to balance across cores
+    static final int BLOCKS_PER_TASK = 16;
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = CommandLine.parseOptions(args);
+        Path data = Path.of(options.getOrDefault("dir", "archive")).resolve(GameArchive.DATA_FILE);
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int openingPlies = Integer.parseInt(options.getOrDefault("opening-plies", "3"));
+        int topOpenings = Integer.parseInt(options.getOrDefault("top-openings", "10"));
+        String format = options.getOrDefault("format", "csv");
+        if (!format.equals("csv") && !format.equals("json")) {
+            throw new IllegalArgumentException("Unknown format '" + format + "', expected csv or json");
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ArchiveStats stats;
+        long bytes;
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.READ)) {
+            bytes = channel.size();
+            stats = scan(channel, pool, openingPlies);
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (format.equals("json")) {
+            stats.writeJson(System.out, topOpenings);
+            System.out.println();
+        } else {
+            stats.writeCsv(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), topOpenings);
+        }
+        System.err.printf("Scanned %,d games (%,d MB) in %.2fs with %d threads, %.0f MB/s%n",
+                stats.games(), bytes >> 20, seconds, threads, (bytes >> 20) / seconds);
+    }
+
+    /** Scans every complete record in the channel on {@code pool}. */
+    public static ArchiveStats scan(FileChannel channel, ForkJoinPool pool, int openingPlies) throws IOException {
+        long size = channel.size();
+        long blocks = (size + ArchivedGame.BLOCK_SIZE - 1) / ArchivedGame.BLOCK_SIZE;
+        try {
+            return pool.invoke(new ScanTask(channel, size, 0, blocks, openingPlies));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ScanTask extends RecursiveTask<ArchiveStats> {
+        private final FileChannel channel;
+        private final long size;
+        private final long fromBlock;
+        private final long toBlock;
+        private final int openingPlies;
+
+        ScanTask(FileChannel channel, long size, long fromBlock, long toBlock, int openingPlies) {
+            this.channel = channel;
+            this.size = size;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+            this.openingPlies = openingPlies;
+        }
+
+        @Override
+        protected ArchiveStats compute() {
+            if (toBlock - fromBlock > BLOCKS_PER_TASK) {
+                long middle = (fromBlock + toBlock) >>> 1;
+                ScanTask left = new ScanTask(channel, size, fromBlock, middle, openingPlies);
+                left.fork();
+                ArchiveStats right = new ScanTask(channel, size, middle, toBlock, openingPlies).compute();
+                return left.join().merge(right);
+            }
+            ArchiveStats stats = new ArchiveStats(openingPlies);
+            long start = fromBlock * ArchivedGame.BLOCK_SIZE;
+            long end = Math.min(toBlock * ArchivedGame.BLOCK_SIZE, size);
+            try {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                for (int block = 0; block < region.limit(); block += ArchivedGame.BLOCK_SIZE) {
+                    scanBlock(region.slice(block, Math.min(ArchivedGame.BLOCK_SIZE, region.limit() - block)), stats);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return stats;
+        }
+
+        private static void scanBlock(ByteBuffer block, ArchiveStats stats) throws IOException {
+            while (block.remaining() >= Integer.BYTES) {
+                int length = block.getInt(block.position());
+                if (length <= 0 || Integer.BYTES + length > block.remaining()) {
+                    // padding to the end of the block, or a record still being written
+                    return;
+                }
+                stats.add(ArchivedGame.decode(block));
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.unitbase.game.archive;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.WinPatterns;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Totals over a set of archived games. Each scan task fills its own instance
+ * and instances are merged pairwise as the tasks join, so no counter is shared.
+ */
+public class ArchiveStats {
+
+    public enum WinCondition { STACK, SAME_SIZE, SIZE_ORDER, NONE }
+
+    private static final int[] SIZE_SLOTS = {0x1249249, 0x2492492, 0x4924924};
+    // a concentric stack is the three slots of one cell
+    private static final int CELL_SLOTS = 0b111;
+    private static final int CELL_SLOTS_WIDTH = 3;
+
+    private final int openingPlies;
+    private long games;
+    private long moves;
+    private final long[] winConditions = new long[WinCondition.values().length];
+    // name -> {games, wins}
+    private final Map<String, long[]> players = new HashMap<>();
+    // ply count in the top byte, then 5 bits per move code -> games
+    private final Map<Long, long[]> openings = new HashMap<>();
+
+    public ArchiveStats(int openingPlies) {
+        if (openingPlies < 1 || openingPlies > 11) {
+            throw new IllegalArgumentException("Opening length must be between 1 and 11 plies");
+        }
+        this.openingPlies = openingPlies;
+    }
+
+    public void add(ArchivedGame game) {
+        byte[] codes = game.moveCodes();
+        games++;
+        moves += codes.length;
+
+        // players alternate from RED, so replaying the ownership masks is enough to find the win
+        int[] owned = new int[2];
+        for (int i = 0; i < codes.length; i++) {
+            owned[i & 1] |= 1 << codes[i];
+        }
+        int winner = -1;
+        WinCondition condition = WinCondition.NONE;
+        if (codes.length > 0) {
+            int last = codes[codes.length - 1];
+            int mover = (codes.length - 1) & 1;
+            for (int pattern : WinPatterns.through(last)) {
+                if ((owned[mover] & pattern) == pattern) {
+                    winner = mover;
+                    condition = classify(pattern);
+                    break;
+                }
+            }
+        }
+        winConditions[condition.ordinal()]++;
+
+        List<String> names = game.players();
+        for (int i = 0; i < names.size(); i++) {
+            long[] record = players.computeIfAbsent(names.get(i), name -> new long[2]);
+            record[0]++;
+            if (i == winner) {
+                record[1]++;
+            }
+        }
+
+        int plies = Math.min(openingPlies, codes.length);
+        long key = (long) plies << 56;
+        for (int i = 0; i < plies; i++) {
+            key |= (long) codes[i] << (5 * i);
+        }
+        openings.computeIfAbsent(key, k -> new long[1])[0]++;
+    }
+
+    private static WinCondition classify(int pattern) {
+        int first = Integer.numberOfTrailingZeros(pattern);
+        if (first % CELL_SLOTS_WIDTH == 0 && pattern >>> first == CELL_SLOTS) {
+            return WinCondition.STACK;
+        }
+        for (int sizeSlots : SIZE_SLOTS) {
+            if ((pattern & sizeSlots) == pattern) {
+                return WinCondition.SAME_SIZE;
+            }
+        }
+        return WinCondition.SIZE_ORDER;
+    }
+
+    /** Folds {@code other} into this instance and returns this. */
+    public ArchiveStats merge(ArchiveStats other) {
+        games += other.games;
+        moves += other.moves;
+        for (int i = 0; i < winConditions.length; i++) {
+            winConditions[i] += other.winConditions[i];
+        }
+        other.players.forEach((name, record) -> players.merge(name, record, (a, b) -> {
+            a[0] += b[0];
+            a[1] += b[1];
+            return a;
+        }));
+        other.openings.forEach((key, count) -> openings.merge(key, count, (a, b) -> {
+            a[0] += b[0];
+            return a;
+        }));
+        return this;
+    }
+
+    public long games() {
+        return games;
+    }
+
+    public double averageLength() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    public long winConditionCount(WinCondition condition) {
+        return winConditions[condition.ordinal()];
+    }
+
+    /** {games, wins} for the player, or {@code null} if they never played. */
+    public long[] player(String name) {
+        long[] record = players.get(name);
+        return record == null ? null : record.clone();
+    }
+
+    /** The {@code top} most played openings, as move lists, with their game counts, most played first. */
+    public List<Map.Entry<List<Move>, Long>> topOpenings(int top) {
+        List<Map.Entry<Long, long[]>> sorted = new ArrayList<>(openings.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<Long, long[]> e) -> -e.getValue()[0])
+                .thenComparing(Map.Entry::getKey));
+        List<Map.Entry<List<Move>, Long>> result = new ArrayList<>();
+        for (Map.Entry<Long, long[]> opening : sorted.subList(0, Math.min(top, sorted.size()))) {
+            long key = opening.getKey();
+            List<Move> line = new ArrayList<>();
+            for (int i = 0; i < (int) (key >>> 56); i++) {
+                line.add(Move.decode((int) (key >>> (5 * i)) & 0x1F));
+            }
+            result.add(Map.entry(line, opening.getValue()[0]));
+        }
+        return result;
+    }
+
+    // Players by games played, then name
+    private List<Map.Entry<String, long[]>> sortedPlayers() {
+        List<Map.Entry<String, long[]>> sorted = new ArrayList<>(players.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> -e.getValue()[0])
+                .thenComparing(Map.Entry::getKey));
+        return sorted;
+    }
+
+    /**
+     * One row per figure: {@code section,key,count,share}, where share is the win
+     * rate for players and the fraction of all games otherwise.
+     */
+    public void writeCsv(Writer out, int topOpenings) throws IOException {
+        out.write("section,key,count,share\n");
+        out.write(String.format(Locale.ROOT, "summary,games,%d,\n", games));
+        out.write(String.format(Locale.ROOT, "summary,average_length,,%.4f\n", averageLength()));
+        for (WinCondition condition : WinCondition.values()) {
+            out.write(String.format(Locale.ROOT, "win_condition,%s,%d,%.4f\n",
+                    condition, winConditions[condition.ordinal()], share(winConditions[condition.ordinal()], games)));
+        }
+        for (Map.Entry<List<Move>, Long> opening : topOpenings(topOpenings)) {
+            out.write(String.format(Locale.ROOT, "opening,%s,%d,%.4f\n",
+                    notation(opening.getKey()), opening.getValue(), share(opening.getValue(), games)));
+        }
+        for (Map.Entry<String, long[]> player : sortedPlayers()) {
+            long[] record = player.getValue();
+            out.write(String.format(Locale.ROOT, "player,%s,%d,%.4f\n",
+                    csvField(player.getKey()), record[0], share(record[1], record[0])));
+        }
+        out.flush();
+    }
+
+    public void writeJson(OutputStream out, int topOpenings) throws IOException {
+        try (JsonGenerator json = new JsonFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            json.writeStartObject();
+            json.writeNumberField("games", games);
+            json.writeNumberField("averageLength", averageLength());
+            json.writeObjectFieldStart("winConditions");
+            for (WinCondition condition : WinCondition.values()) {
+                json.writeNumberField(condition.name(), winConditions[condition.ordinal()]);
+            }
+            json.writeEndObject();
+            json.writeArrayFieldStart("openings");
+            for (Map.Entry<List<Move>, Long> opening : topOpenings(topOpenings)) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("moves");
+                for (Move move : opening.getKey()) {
+                    json.writeStartObject();
+                    json.writeNumberField("row", move.row());
+                    json.writeNumberField("col", move.col());
+                    json.writeStringField("size", move.size());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeNumberField("games", opening.getValue());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("players");
+            for (Map.Entry<String, long[]> player : sortedPlayers()) {
+                long[] record = player.getValue();
+                json.writeStartObject();
+                json.writeStringField("name", player.getKey());
+                json.writeNumberField("games", record[0]);
+                json.writeNumberField("wins", record[1]);
+                json.writeNumberField("winRate", share(record[1], record[0]));
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static double share(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    // e.g. "1:1:LARGE 0:0:SMALL"
+    private static String notation(List<Move> line) {
+        StringBuilder text = new StringBuilder();
+        for (Move move : line) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append(move.row()).append(':').append(move.col()).append(':').append(move.size());
+        }
+        return text.toString();
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
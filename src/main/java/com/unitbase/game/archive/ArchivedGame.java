@@ -0,0 +1,149 @@
+package com.unitbase.game.archive;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.MoveResult;
+import com.unitbase.game.model.Player;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A finished game as kept in the archive: who played and the move codes, nothing
+ * that replaying can recompute. On disk a record is
+ * <pre>
+ * int   length of what follows
+ * byte  format version
+ * long  finishedAt
+ * utf   gameId
+ * byte  player count, then a utf name per player in join order
+ * byte  move count, then one code (see {@link Move}) per move
+ * </pre>
+ * which is around 60 bytes for a typical game. The file is laid out in
+ * {@link #BLOCK_SIZE} blocks and a record never spans two: when the next one
+ * does not fit, the rest of the block is zero filled, and a zero length (or a
+ * tail too short to hold one) means skip to the next block. Any block boundary
+ * is therefore also a record boundary, so readers can split the file freely.
+ */
+public record ArchivedGame(String gameId, List<String> players, long finishedAt, byte[] moveCodes) {
+    // 2: records laid out in BLOCK_SIZE blocks; 1 packed them back to back
+    static final int FORMAT_VERSION = 2;
+    public static final int BLOCK_SIZE = 1 << 20;
+
+    public static ArchivedGame of(GameState game) {
+        return new ArchivedGame(game.getGameId(),
+                game.getPlayers().stream().map(Player::getName).toList(),
+                game.getLastActivity(), game.moveCodes());
+    }
+
+    /** The record's bytes, length prefix included. */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(finishedAt);
+            out.writeUTF(gameId);
+            out.writeByte(players.size());
+            for (String player : players) {
+                out.writeUTF(player);
+            }
+            out.writeByte(moveCodes.length);
+            out.write(moveCodes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] record = bytes.toByteArray();
+        int length = record.length - Integer.BYTES;
+        record[0] = (byte) (length >>> 24);
+        record[1] = (byte) (length >>> 16);
+        record[2] = (byte) (length >>> 8);
+        record[3] = (byte) length;
+        return record;
+    }
+
+    /** Bytes from {@code offset} up to the end of its block. */
+    public static int roomInBlock(long offset) {
+        return BLOCK_SIZE - (int) (offset % BLOCK_SIZE);
+    }
+
+    /** Reads a record produced by {@link #encode()}, length prefix included. */
+    public static ArchivedGame decode(byte[] record) throws IOException {
+        return decode(ByteBuffer.wrap(record));
+    }
+
+    /**
+     * Reads the record starting at the buffer's position, length prefix included,
+     * and leaves the position just past it.
+     */
+    public static ArchivedGame decode(ByteBuffer record) throws IOException {
+        try {
+            record.getInt();
+            int version = record.get() & 0xFF;
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported archive record version " + version);
+            }
+            long finishedAt = record.getLong();
+            String gameId = readUtf(record);
+            String[] players = new String[record.get() & 0xFF];
+            for (int i = 0; i < players.length; i++) {
+                players[i] = readUtf(record);
+            }
+            byte[] moveCodes = new byte[record.get() & 0xFF];
+            record.get(moveCodes);
+            return new ArchivedGame(gameId, List.of(players), finishedAt, moveCodes);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Archive record is truncated");
+        }
+    }
+
+    // Counterpart of DataOutput.writeUTF; names and ids are nearly always ASCII, which decodes directly
+    private static String readUtf(ByteBuffer in) throws IOException {
+        int length = in.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        for (byte b : bytes) {
+            if (b <= 0) {
+                byte[] prefixed = new byte[length + 2];
+                prefixed[0] = (byte) (length >>> 8);
+                prefixed[1] = (byte) length;
+                System.arraycopy(bytes, 0, prefixed, 2, length);
+                return new DataInputStream(new ByteArrayInputStream(prefixed)).readUTF();
+            }
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Rebuilds the game by replaying its first {@code moves} moves (all of them if
+     * there are fewer) through {@link GameState}, so the result carries the same
+     * board, inventories, winner and winning line the live game had at that point.
+     */
+    public GameState replay(int moves) {
+        GameState game = new GameState(gameId);
+        for (String player : players) {
+            game.addPlayer(player);
+        }
+        int count = Math.min(moves, moveCodes.length);
+        for (int i = 0; i < count; i++) {
+            int code = moveCodes[i];
+            String color = game.getPlayers().get(game.getCurrentPlayerIndex()).getColor();
+            MoveResult result = game.tryMove(Move.rowOf(code), Move.colOf(code),
+                    GameState.SIZES[Move.sizeIndexOf(code)], color);
+            if (!result.isOk()) {
+                throw new IllegalStateException("Archived move " + i + " of game " + gameId + " was rejected: " + result);
+            }
+        }
+        game.setLastActivity(finishedAt);
+        return game;
+    }
+}
@@ -0,0 +1,377 @@
+package com.unitbase.game.archive;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameListener;
+import com.unitbase.game.service.GameService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Append-only archive of finished games. Finishing a game only encodes it and
+ * queues it; a single writer thread drains the queue in batches, appends each
+ * batch to {@code games.dat} with one gather write and one fsync, and then
+ * appends the matching entries to the {@code games.idx} sidecar. The index
+ * (gameId and player to record offset) is held in memory, so a replay is one
+ * positional read of a single record; the data file itself is never loaded.
+ * <p>
+ * Index entries are only written once their records are on disk, so after a
+ * crash the index can lag the data but never point past it. Startup re-indexes
+ * any records after the last indexed one and cuts off a torn final record. A batch
+ * whose write fails is cut back off both files and retried a few times before it
+ * is given up on.
+ */
+@Service
+public class GameArchive implements GameListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GameArchive.class);
+    static final String DATA_FILE = "games.dat";
+    static final String INDEX_FILE = "games.idx";
+    private static final ArchivedGame STOP = new ArchivedGame("", List.of(), 0, new byte[0]);
+    static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final FileChannel data;
+    private final FileChannel index;
+    private final int batchSize;
+    private final BlockingQueue<ArchivedGame> queue;
+    // Games queued or being written, so they can be replayed before they reach the index
+    private final Map<String, ArchivedGame> pending = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byGame = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Entry>> byPlayer = new ConcurrentHashMap<>();
+    private final Thread writer;
+
+    private record Entry(String gameId, long offset, int length) {}
+
+    public GameArchive(GameService gameService,
+                       @Value("${ringwars.archive.dir:archive}") Path dir,
+                       @Value("${ringwars.archive.batch-size:256}") int batchSize,
+                       @Value("${ringwars.archive.queue-capacity:65536}") int queueCapacity) {
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        try {
+            Files.createDirectories(dir);
+            data = FileChannel.open(dir.resolve(DATA_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = FileChannel.open(dir.resolve(INDEX_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open game archive in " + dir, e);
+        }
+        writer = Thread.ofPlatform().daemon().name("game-archive-writer").start(this::writeLoop);
+        gameService.addListener(this);
+    }
+
+    @Override
+    public void gameChanged(GameState game) {
+        if (!"FINISHED".equals(game.getStatus())) {
+            return;
+        }
+        ArchivedGame archived = ArchivedGame.of(game);
+        pending.put(archived.gameId(), archived);
+        if (!queue.offer(archived)) {
+            pending.remove(archived.gameId());
+            log.warn("Archive queue full, dropping game {}", archived.gameId());
+        }
+    }
+
+    /**
+     * The archived game, or {@code null} if it was never archived. Reads just the
+     * one record from disk.
+     */
+    public ArchivedGame find(String gameId) throws IOException {
+        ArchivedGame queued = pending.get(gameId);
+        if (queued != null) {
+            return queued;
+        }
+        Entry entry = byGame.get(gameId);
+        return entry == null ? null : ArchivedGame.decode(read(entry.offset(), entry.length()));
+    }
+
+    /** Whether the game was archived on this node; answered from memory. */
+    public boolean contains(String gameId) {
+        return pending.containsKey(gameId) || byGame.containsKey(gameId);
+    }
+
+    /** Ids of the archived games the player took part in, oldest first. */
+    public List<String> gameIds(String playerName) {
+        Queue<Entry> entries = byPlayer.get(playerName);
+        if (entries == null) {
+            return List.of();
+        }
+        List<String> ids = new ArrayList<>();
+        for (Entry entry : entries) {
+            ids.add(entry.gameId());
+        }
+        return ids;
+    }
+
+    /** Writes out everything queued so far, then closes the files. */
+    @PreDestroy
+    public void close() throws IOException {
+        try {
+            queue.put(STOP);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            data.close();
+            index.close();
+        }
+    }
+
+    private void writeLoop() {
+        List<ArchivedGame> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                return;
+            }
+            boolean stop = batch.removeIf(game -> game == STOP);
+            appendWithRetry(batch);
+            for (ArchivedGame game : batch) {
+                pending.remove(game.gameId());
+            }
+            batch.clear();
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    private void appendWithRetry(List<ArchivedGame> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                append(batch);
+                return;
+            } catch (IOException | RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("Failed to archive {} games after {} attempts, dropping them", batch.size(), attempt, e);
+                    return;
+                }
+                log.warn("Failed to archive {} games, retrying", batch.size(), e);
+            }
+            try {
+                Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                // shutting down; the next take() ends the loop
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void append(List<ArchivedGame> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long dataStart = data.size();
+        long indexStart = index.position();
+        try {
+            write(batch, dataStart);
+        } catch (IOException | RuntimeException e) {
+            // Nothing from this batch is in the in-memory index yet, so cutting both files back
+            // leaves them as they were and a retry starts from the same offsets
+            try {
+                data.truncate(dataStart);
+                index.truncate(indexStart);
+                index.position(indexStart);
+            } catch (IOException rollback) {
+                e.addSuppressed(rollback);
+            }
+            throw e;
+        }
+    }
+
+    private void write(List<ArchivedGame> batch, long start) throws IOException {
+        List<ByteBuffer> buffers = new ArrayList<>(batch.size() + 1);
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(entries);
+        List<Entry> added = new ArrayList<>(batch.size());
+        long offset = start;
+        data.position(offset);
+        for (ArchivedGame game : batch) {
+            byte[] record = game.encode();
+            int room = ArchivedGame.roomInBlock(offset);
+            if (record.length > room) {
+                buffers.add(ByteBuffer.allocate(room));
+                offset += room;
+            }
+            buffers.add(ByteBuffer.wrap(record));
+            Entry entry = new Entry(game.gameId(), offset, record.length);
+            writeEntry(out, entry, game.players());
+            added.add(entry);
+            offset += record.length;
+        }
+        ByteBuffer[] records = buffers.toArray(new ByteBuffer[0]);
+        while (records[records.length - 1].hasRemaining()) {
+            data.write(records);
+        }
+        data.force(false);
+
+        writeFully(index, ByteBuffer.wrap(entries.toByteArray()));
+        for (int i = 0; i < added.size(); i++) {
+            addToIndex(added.get(i), batch.get(i).players());
+        }
+    }
+
+    private void addToIndex(Entry entry, List<String> players) {
+        byGame.put(entry.gameId(), entry);
+        for (String player : players) {
+            byPlayer.computeIfAbsent(player, name -> new ConcurrentLinkedQueue<>()).add(entry);
+        }
+    }
+
+    // Index entry: utf gameId, long offset, int length, byte player count, utf per player
+    private static void writeEntry(DataOutputStream out, Entry entry, List<String> players) throws IOException {
+        out.writeUTF(entry.gameId());
+        out.writeLong(entry.offset());
+        out.writeInt(entry.length());
+        out.writeByte(players.size());
+        for (String player : players) {
+            out.writeUTF(player);
+        }
+    }
+
+    private void recover() throws IOException {
+        // The first record always starts the file, so its version byte tells the layout
+        if (data.size() > Integer.BYTES) {
+            int version = read(Integer.BYTES, 1)[0] & 0xFF;
+            if (version != ArchivedGame.FORMAT_VERSION) {
+                throw new IOException(DATA_FILE + " is in archive format " + version + ", expected "
+                        + ArchivedGame.FORMAT_VERSION + "; move the archive aside to start a new one");
+            }
+        }
+        long dataEnd = 0;
+        CountingInputStream counted = new CountingInputStream(
+                new BufferedInputStream(Channels.newInputStream(index.position(0))));
+        DataInputStream in = new DataInputStream(counted);
+        long indexed = 0;
+        try {
+            while (true) {
+                Entry entry = new Entry(in.readUTF(), in.readLong(), in.readInt());
+                String[] players = new String[in.readUnsignedByte()];
+                for (int i = 0; i < players.length; i++) {
+                    players[i] = in.readUTF();
+                }
+                if (entry.offset() + entry.length() > data.size()) {
+                    break;
+                }
+                addToIndex(entry, List.of(players));
+                dataEnd = entry.offset() + entry.length();
+                indexed = counted.count;
+            }
+        } catch (EOFException e) {
+            // end of the index, possibly mid-entry; everything up to 'indexed' is good
+        }
+        index.truncate(indexed);
+        index.position(indexed);
+
+        // Records that reached the data file before a crash but not the index
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(entries);
+        long offset = dataEnd;
+        int reindexed = 0;
+        while (offset < data.size()) {
+            int room = ArchivedGame.roomInBlock(offset);
+            int length = room < Integer.BYTES || offset + Integer.BYTES > data.size()
+                    ? 0 : Integer.BYTES + ByteBuffer.wrap(read(offset, Integer.BYTES)).getInt();
+            if (length == 0) {
+                // block padding, unless the block was cut off part way through it
+                if (offset + room > data.size()) {
+                    break;
+                }
+                offset += room;
+                continue;
+            }
+            if (length > room || offset + length > data.size()) {
+                break;
+            }
+            ArchivedGame game = ArchivedGame.decode(read(offset, length));
+            Entry entry = new Entry(game.gameId(), offset, length);
+            writeEntry(out, entry, game.players());
+            addToIndex(entry, game.players());
+            offset += length;
+            reindexed++;
+        }
+        if (offset < data.size()) {
+            log.warn("Dropping {} bytes of torn archive data", data.size() - offset);
+            data.truncate(offset);
+        }
+        if (reindexed > 0) {
+            log.info("Re-indexed {} archived games", reindexed);
+            writeFully(index, ByteBuffer.wrap(entries.toByteArray()));
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+
+    private byte[] read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (data.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Archive record at " + offset + " is truncated");
+            }
+        }
+        return buffer.array();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
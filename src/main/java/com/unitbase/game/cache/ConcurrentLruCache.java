@@ -0,0 +1,157 @@
+package com.unitbase.game.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A bounded LRU cache whose capacity is a total weight (for example an estimate
+ * of retained bytes) rather than an entry count. Keys are spread over
+ * independently locked segments, each an access-ordered {@link LinkedHashMap},
+ * so concurrent readers only contend when they hash to the same segment.
+ * Eviction is per segment, which keeps it O(1) at the cost of being
+ * approximately rather than globally least-recently-used.
+ */
+public class ConcurrentLruCache<K, V> {
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final ToIntFunction<V> weigher;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLruCache(long maxWeight, int concurrency, ToIntFunction<V> weigher) {
+        int count = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+        this.segments = new Segment[count];
+        this.segmentMask = count - 1;
+        this.weigher = weigher;
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(Math.max(1, maxWeight / count));
+        }
+    }
+
+    public V get(K key) {
+        V value = segmentFor(key).get(key);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /**
+     * Returns the cached value, computing and caching it on a miss. The loader
+     * runs outside the segment lock, so two threads missing on the same key may
+     * both compute it; the results are expected to be equivalent.
+     */
+    public V get(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        evictions.add(segmentFor(key).put(key, value, weigher.applyAsInt(value)));
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long weight() {
+        long weight = 0;
+        for (Segment<K, V> segment : segments) {
+            weight += segment.weight();
+        }
+        return weight;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & segmentMask];
+    }
+
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxWeight;
+        private long weight;
+
+        Segment(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        V get(K key) {
+            lock.lock();
+            try {
+                Entry<V> entry = map.get(key);
+                return entry == null ? null : entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int put(K key, V value, int entryWeight) {
+            lock.lock();
+            try {
+                Entry<V> previous = map.put(key, new Entry<>(value, entryWeight));
+                weight += entryWeight - (previous == null ? 0 : previous.weight);
+                int evicted = 0;
+                Iterator<Map.Entry<K, Entry<V>>> eldest = map.entrySet().iterator();
+                while (weight > maxWeight && eldest.hasNext()) {
+                    Map.Entry<K, Entry<V>> entry = eldest.next();
+                    if (entry.getKey().equals(key)) {
+                        continue;
+                    }
+                    weight -= entry.getValue().weight;
+                    eldest.remove();
+                    evicted++;
+                }
+                return evicted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long weight() {
+            lock.lock();
+            try {
+                return weight;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, int weight) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.unitbase.game.cli;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Argument parsing shared by the offline tools, which all take {@code --name=value}
+ * options and nothing else.
+ */
+public final class CommandLine {
+
+    private CommandLine() {
+    }
+
+    /**
+     * Option names (without the leading dashes) to values; a repeated option keeps
+     * its last value. Anything not of the form {@code --name=value} is rejected.
+     */
+    public static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,269 @@
+package com.unitbase.game.cluster;
+
+import com.unitbase.game.archive.ArchivedGame;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+/**
+ * Partitions games across nodes by consistent hashing of their ids. With no
+ * nodes configured the service is off and this node owns everything. When the
+ * member list changes, each node sends the games it no longer owns to their new
+ * owners, encoded as move lists (see {@link ArchivedGame}) and rebuilt there by
+ * replaying the moves, then drops its copies. Only games on the arcs that
+ * changed hands move.
+ * <p>
+ * Nodes prove they are members with a shared secret sent on every call between
+ * them; the cluster endpoints and the forwarded marker are only honoured with it.
+ */
+@Service
+public class ClusterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterService.class);
+    public static final String FORWARDED_HEADER = "X-RingWars-Forwarded";
+    public static final String SECRET_HEADER = "X-RingWars-Cluster-Secret";
+    public static final String TRANSFER_PATH = "/api/cluster/games";
+
+    public enum Mode { FORWARD, REDIRECT }
+
+    /** Delivers encoded games to another node. */
+    interface Transfer {
+        void send(String node, byte[] games) throws IOException, InterruptedException;
+    }
+
+    private final GameService gameService;
+    private final String self;
+    private final int virtualNodes;
+    private final Mode mode;
+    private final String secret;
+    private final HttpClient client;
+    private final Transfer transfer;
+    private volatile HashRing ring;
+
+    @Autowired
+    public ClusterService(GameService gameService,
+                          @Value("${ringwars.cluster.self:}") String self,
+                          @Value("${ringwars.cluster.nodes:}") List<String> nodes,
+                          @Value("${ringwars.cluster.virtual-nodes:128}") int virtualNodes,
+                          @Value("${ringwars.cluster.mode:forward}") String mode,
+                          @Value("${ringwars.cluster.secret:}") String secret) {
+        this(gameService, self, nodes, virtualNodes, Mode.valueOf(mode.toUpperCase(Locale.ROOT)), secret, null);
+    }
+
+    ClusterService(GameService gameService, String self, List<String> nodes, int virtualNodes, Mode mode,
+                   String secret, Transfer transfer) {
+        this.gameService = gameService;
+        this.self = self;
+        this.virtualNodes = virtualNodes;
+        this.mode = mode;
+        this.secret = secret;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.transfer = transfer != null ? transfer : this::post;
+        List<String> members = nodes.stream().map(String::trim).filter(node -> !node.isEmpty()).toList();
+        if (!members.isEmpty() && secret.isEmpty()) {
+            throw new IllegalStateException("ringwars.cluster.secret must be set to run as part of a cluster");
+        }
+        if (!members.isEmpty()) {
+            setNodes(members);
+        }
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /** Whether a request carried this cluster's secret; always {@code false} when none is configured. */
+    public boolean isPeer(String presentedSecret) {
+        return !secret.isEmpty() && presentedSecret != null
+                && MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+                presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Whether a request was forwarded by another member, and so is already routed and rate limited. */
+    public boolean isForwardedByPeer(String forwardedHeader, String presentedSecret) {
+        return isEnabled() && forwardedHeader != null && isPeer(presentedSecret);
+    }
+
+    public List<String> getNodes() {
+        HashRing current = ring;
+        return current == null ? List.of() : current.nodes();
+    }
+
+    /** Base URL of the node that owns the game; this node's when clustering is off. */
+    public String ownerOf(String gameId) {
+        HashRing current = ring;
+        return current == null ? self : current.ownerOf(gameId);
+    }
+
+    public boolean owns(String gameId) {
+        HashRing current = ring;
+        return current == null || current.ownerOf(gameId).equals(self);
+    }
+
+    /**
+     * Switches to a new member list and hands off the games that now belong
+     * elsewhere. Every member, including one about to leave, should be given the
+     * same list. Returns the number of games handed off.
+     */
+    public synchronized int setNodes(List<String> nodes) {
+        if (!nodes.contains(self)) {
+            throw new IllegalArgumentException("Member list " + nodes + " does not include this node " + self);
+        }
+        HashRing next = new HashRing(nodes, virtualNodes);
+        ring = next;
+        gameService.setOwnership(gameId -> next.ownerOf(gameId).equals(self));
+        return handOff(next);
+    }
+
+    /** Prepares this node to leave: hands every game to the remaining members. */
+    public synchronized int leave() {
+        List<String> remaining = new ArrayList<>(getNodes());
+        remaining.remove(self);
+        if (remaining.isEmpty()) {
+            return 0;
+        }
+        HashRing next = new HashRing(remaining, virtualNodes);
+        ring = next;
+        gameService.setOwnership(GameService.OWNS_NOTHING);
+        return handOff(next);
+    }
+
+    private int handOff(HashRing next) {
+        Map<String, List<GameState>> byOwner = new HashMap<>();
+        for (GameState game : gameService.findGames(game -> !next.ownerOf(game.getGameId()).equals(self))) {
+            byOwner.computeIfAbsent(next.ownerOf(game.getGameId()), node -> new ArrayList<>()).add(game);
+        }
+        int moved = 0;
+        for (Map.Entry<String, List<GameState>> owner : byOwner.entrySet()) {
+            ByteArrayOutputStream games = new ByteArrayOutputStream();
+            for (GameState game : owner.getValue()) {
+                games.writeBytes(ArchivedGame.of(game).encode());
+            }
+            try {
+                transfer.send(owner.getKey(), games.toByteArray());
+            } catch (IOException e) {
+                // kept here; requests are routed to the new owner, so they miss until the next membership change
+                log.error("Failed to hand off {} games to {}", owner.getValue().size(), owner.getKey(), e);
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            for (GameState game : owner.getValue()) {
+                gameService.removeGame(game.getGameId());
+            }
+            moved += owner.getValue().size();
+        }
+        if (moved > 0) {
+            log.info("Handed off {} games to {} nodes", moved, byOwner.size());
+        }
+        return moved;
+    }
+
+    /** Adopts games handed off by another node; returns how many were new here. */
+    public int receive(byte[] games) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(games);
+        int adopted = 0;
+        while (buffer.hasRemaining()) {
+            GameState game = ArchivedGame.decode(buffer).replay(Integer.MAX_VALUE);
+            if (gameService.adoptGame(game)) {
+                adopted++;
+            }
+        }
+        return adopted;
+    }
+
+    private void post(String node, byte[] games) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + TRANSFER_PATH))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/octet-stream")
+                .header(FORWARDED_HEADER, self)
+                .header(SECRET_HEADER, secret)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(games))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Node " + node + " answered " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    /**
+     * Replays a request against the owning node and returns its answer. The
+     * forwarded copy is marked so the owner serves it even if its view of the
+     * ring disagrees, which stops requests bouncing between nodes mid-change.
+     */
+    public HttpResponse<byte[]> forward(String owner, String method, String pathAndQuery,
+                                        Map<String, String> headers, byte[] body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(owner + pathAndQuery))
+                .timeout(Duration.ofSeconds(10))
+                .header(FORWARDED_HEADER, self)
+                .header(SECRET_HEADER, secret)
+                .method(method, body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach(request::header);
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * GETs a path from every other member at once and returns their answers in
+     * member order. Like {@link #forward}, the copies are marked, so each member
+     * answers from its own data rather than asking the others in turn. Members
+     * that cannot be reached are logged and left out.
+     */
+    public List<HttpResponse<byte[]>> gather(String pathAndQuery, Map<String, String> headers)
+            throws InterruptedException {
+        List<CompletableFuture<HttpResponse<byte[]>>> calls = new ArrayList<>();
+        for (String node : getNodes()) {
+            if (node.equals(self)) {
+                continue;
+            }
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(node + pathAndQuery))
+                    .timeout(Duration.ofSeconds(10))
+                    .header(FORWARDED_HEADER, self)
+                    .header(SECRET_HEADER, secret)
+                    .GET();
+            headers.forEach(request::header);
+            calls.add(client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray()));
+        }
+        List<HttpResponse<byte[]>> answers = new ArrayList<>(calls.size());
+        for (CompletableFuture<HttpResponse<byte[]>> call : calls) {
+            try {
+                answers.add(call.get());
+            } catch (ExecutionException e) {
+                log.warn("A member did not answer {}", pathAndQuery, e.getCause());
+            }
+        }
+        return answers;
+    }
+}
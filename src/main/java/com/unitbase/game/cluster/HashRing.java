@@ -0,0 +1,66 @@
+package com.unitbase.game.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consistent hash ring over node base URLs. Each node is placed at
+ * {@code virtualNodes} points and a key belongs to the first point at or after
+ * its hash, so adding or removing a node only moves the keys of the arcs it
+ * gains or gives up, about 1/N of them. The hash is fixed (not
+ * {@link String#hashCode()}) so every node computes the same ring.
+ */
+public final class HashRing {
+    private final List<String> nodes;
+    private final long[] points;
+    private final int[] owners;
+
+    public HashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("A ring needs at least one node and one point per node");
+        }
+        this.nodes = List.copyOf(nodes);
+        long[][] placed = new long[nodes.size() * virtualNodes][];
+        for (int n = 0; n < nodes.size(); n++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                placed[n * virtualNodes + v] = new long[]{hash(nodes.get(n) + "#" + v), n};
+            }
+        }
+        // ties (vanishingly rare) break on node order so every member sorts the same way
+        Arrays.sort(placed, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        points = new long[placed.length];
+        owners = new int[placed.length];
+        for (int i = 0; i < placed.length; i++) {
+            points[i] = placed[i][0];
+            owners[i] = (int) placed[i][1];
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public String ownerOf(String key) {
+        int i = Arrays.binarySearch(points, hash(key));
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return nodes.get(owners[i == points.length ? 0 : i]);
+    }
+
+    // FNV-1a over the UTF-8 bytes, then the MurmurHash3 finalizer to spread nearby keys
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,38 @@
+package com.unitbase.game.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Lets only holders of the admin secret reach the admin endpoints, since they list
+ * every game and player on the node. With no secret configured they are closed.
+ */
+@Component
+public class AdminAuthInterceptor implements HandlerInterceptor {
+
+    public static final String SECRET_HEADER = "X-RingWars-Admin-Secret";
+
+    private final byte[] secret;
+
+    public AdminAuthInterceptor(@Value("${ringwars.admin.secret:}") String secret) {
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String presented = request.getHeader(SECRET_HEADER);
+        if (secret.length > 0 && presented != null
+                && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        return false;
+    }
+}
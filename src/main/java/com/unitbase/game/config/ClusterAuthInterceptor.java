@@ -0,0 +1,31 @@
+package com.unitbase.game.config;
+
+import com.unitbase.game.cluster.ClusterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Lets only holders of the cluster secret reach the cluster endpoints, since they
+ * change membership and accept games. With no secret configured they are closed.
+ */
+@Component
+public class ClusterAuthInterceptor implements HandlerInterceptor {
+
+    private final ClusterService cluster;
+
+    public ClusterAuthInterceptor(ClusterService cluster) {
+        this.cluster = cluster;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (cluster.isPeer(request.getHeader(ClusterService.SECRET_HEADER))) {
+            return true;
+        }
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        return false;
+    }
+}
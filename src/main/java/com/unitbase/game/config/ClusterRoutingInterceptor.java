@@ -0,0 +1,123 @@
+package com.unitbase.game.config;
+
+import com.unitbase.game.archive.GameArchive;
+import com.unitbase.game.cluster.ClusterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends requests for games owned by another node to that node, either by
+ * proxying them or with a {@code 307} redirect that keeps the method and body.
+ * Spectator streams are always redirected, since they cannot be buffered.
+ * <p>
+ * Replays are not routed by owner: a game is archived on whichever node it
+ * finished on, and stays there when the ring changes. A replay missing from this
+ * node's archive is asked of every other member and the first one found is relayed.
+ */
+@Component
+public class ClusterRoutingInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRoutingInterceptor.class);
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT);
+    private static final String REPLAY_PATTERN = "/api/game/{gameId}/replay";
+
+    private final ClusterService cluster;
+    private final GameArchive archive;
+
+    public ClusterRoutingInterceptor(ClusterService cluster, GameArchive archive) {
+        this.cluster = cluster;
+        this.archive = archive;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!cluster.isEnabled() || cluster.isForwardedByPeer(request.getHeader(ClusterService.FORWARDED_HEADER),
+                request.getHeader(ClusterService.SECRET_HEADER))) {
+            return true;
+        }
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> map && map.get(GameIdMdcInterceptor.GAME_ID) instanceof String gameId)) {
+            return true;
+        }
+        if (REPLAY_PATTERN.equals(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))) {
+            return archive.contains(gameId) || !relayReplay(request, response, gameId);
+        }
+        if (cluster.owns(gameId)) {
+            return true;
+        }
+
+        String owner = cluster.ownerOf(gameId);
+        String pathAndQuery = pathAndQuery(request);
+        if (cluster.getMode() == ClusterService.Mode.REDIRECT || pathAndQuery.contains("/spectate")) {
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, owner + pathAndQuery);
+            return false;
+        }
+
+        Map<String, String> headers = forwardedHeaders(request);
+        try {
+            HttpResponse<byte[]> forwarded = cluster.forward(owner, request.getMethod(), pathAndQuery,
+                    headers, request.getInputStream().readAllBytes());
+            response.setStatus(forwarded.statusCode());
+            forwarded.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(response::setContentType);
+            response.setContentLength(forwarded.body().length);
+            response.getOutputStream().write(forwarded.body());
+        } catch (IOException e) {
+            log.error("Failed to forward request for game {} to {}", gameId, owner, e);
+            response.setStatus(HttpStatus.BAD_GATEWAY.value());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+        return false;
+    }
+
+    // Writes the first member's archived copy; false if none has it, leaving the local 404 to answer
+    private boolean relayReplay(HttpServletRequest request, HttpServletResponse response, String gameId)
+            throws IOException {
+        try {
+            for (HttpResponse<byte[]> answer : cluster.gather(pathAndQuery(request), forwardedHeaders(request))) {
+                if (answer.statusCode() == HttpStatus.OK.value()) {
+                    response.setStatus(HttpStatus.OK.value());
+                    answer.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(response::setContentType);
+                    response.setContentLength(answer.body().length);
+                    response.getOutputStream().write(answer.body());
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted looking for replay of game {} on other members", gameId);
+        }
+        return false;
+    }
+
+    private static String pathAndQuery(HttpServletRequest request) {
+        return request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+    }
+
+    private static Map<String, String> forwardedHeaders(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : FORWARDED_REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,41 @@
+package com.unitbase.game.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Strong ETags for static resources from an MD5 of their bytes. The handler
+ * passes the variant it is about to send, so the gzip, brotli and plain copies
+ * of a file each get their own tag, as a strong ETag must. Packaged resources
+ * never change while the app runs, so each is hashed once.
+ */
+public class ContentEtags implements Function<Resource, String> {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentEtags.class);
+
+    private final Map<String, String> etags = new ConcurrentHashMap<>();
+
+    @Override
+    public String apply(Resource resource) {
+        String etag = etags.get(resource.getDescription());
+        if (etag != null) {
+            return etag;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            etag = DigestUtils.md5DigestAsHex(in);
+        } catch (IOException e) {
+            log.debug("No ETag for {}: {}", resource.getDescription(), e.getMessage());
+            return null;
+        }
+        etags.put(resource.getDescription(), etag);
+        return etag;
+    }
+}
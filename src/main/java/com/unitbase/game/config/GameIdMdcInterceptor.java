@@ -0,0 +1,33 @@
+package com.unitbase.game.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Puts the {@code gameId} path variable into the logging MDC for the duration of
+ * the request, so every log line written while handling it carries the game it
+ * belongs to.
+ */
+public class GameIdMdcInterceptor implements HandlerInterceptor {
+    public static final String GAME_ID = "gameId";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get(GAME_ID) instanceof String gameId) {
+            MDC.put(GAME_ID, gameId);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        MDC.remove(GAME_ID);
+    }
+}
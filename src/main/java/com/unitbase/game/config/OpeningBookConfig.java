@@ -0,0 +1,20 @@
+package com.unitbase.game.config;
+
+import com.unitbase.game.engine.OpeningBook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpeningBookConfig {
+
+    // Built once at startup; the default covers ~15k positions in well under a second.
+    @Bean
+    public OpeningBook openingBook(@Value("${ringwars.opening-book.plies:4}") int plies,
+                                   @Value("${ringwars.opening-book.search-depth:4}") int searchDepth) {
+        if (plies < 0) {
+            return OpeningBook.EMPTY;
+        }
+        return OpeningBook.build(plies, searchDepth);
+    }
+}
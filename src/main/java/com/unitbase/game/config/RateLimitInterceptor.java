@@ -0,0 +1,62 @@
+package com.unitbase.game.config;
+
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.ratelimit.RateLimits;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket limits per client address and per game, checked before the
+ * handler runs. A client over its limit gets {@code 429} with a
+ * {@code Retry-After} header, so one caller polling in a tight loop or
+ * spamming creates only slows itself down. Requests a peer forwarded were
+ * already charged to their client on the node that received them.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final byte[] RATE_LIMITED =
+            "{\"result\":\"RATE_LIMITED\",\"message\":\"Too many requests, retry later\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimits limits;
+    private final ClusterService cluster;
+
+    public RateLimitInterceptor(ClusterService cluster, RateLimits limits) {
+        this.limits = limits;
+        this.cluster = cluster;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        long now = System.nanoTime();
+        boolean forwarded = cluster.isForwardedByPeer(request.getHeader(ClusterService.FORWARDED_HEADER),
+                request.getHeader(ClusterService.SECRET_HEADER));
+        long wait = forwarded ? 0 : limits.tryAcquireClient(request.getRemoteAddr(), now);
+        if (wait == 0) {
+            Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            if (variables instanceof Map<?, ?> map && map.get(GameIdMdcInterceptor.GAME_ID) instanceof String gameId) {
+                wait = limits.tryAcquireGame(gameId, now);
+            }
+        }
+        if (wait == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(RATE_LIMITED.length);
+        response.getOutputStream().write(RATE_LIMITED);
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+package com.unitbase.game.config;
+
+import com.unitbase.game.cli.CommandLine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build step that writes {@code .gz} (and, given a brotli command, {@code .br})
+ * next to each compressible static file, run by Maven after the UI is copied
+ * into {@code target/classes/static}:
+ * <pre>
+ * java -cp target/classes com.unitbase.game.config.StaticAssetCompressor \
+ *     --dir=target/classes/static --brotli=brotli
+ * </pre>
+ * Files are compressed once at the highest level instead of on every response,
+ * and the resource handlers pick the variant the client accepts. A variant is
+ * only kept when it is smaller than the original.
+ */
+public class StaticAssetCompressor {
+
+    static final Set<String> COMPRESSIBLE = Set.of("html", "css", "js", "mjs", "json", "svg", "txt", "map");
+    // Below this a compressed copy saves less than the headers it costs
+    static final int MIN_SIZE = 1024;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = CommandLine.parseOptions(args);
+        Path dir = Path.of(options.getOrDefault("dir", "target/classes/static"));
+        String brotli = options.getOrDefault("brotli", "");
+        if (!Files.isDirectory(dir)) {
+            System.err.println("No static assets in " + dir);
+            return;
+        }
+        List<Path> written = compress(dir, brotli.isBlank() ? null : brotli);
+        System.err.printf("Wrote %d precompressed assets under %s%n", written.size(), dir);
+    }
+
+    /** Compresses every eligible file under {@code dir}; returns the variants written. */
+    static List<Path> compress(Path dir, String brotli) throws IOException, InterruptedException {
+        List<Path> sources;
+        try (Stream<Path> files = Files.walk(dir)) {
+            sources = files.filter(Files::isRegularFile).filter(StaticAssetCompressor::isCompressible).toList();
+        }
+        List<Path> written = new ArrayList<>();
+        for (Path source : sources) {
+            long size = Files.size(source);
+            Path gzip = sibling(source, ".gz");
+            try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(gzip))) {
+                Files.copy(source, out);
+            }
+            keepIfSmaller(gzip, size, written);
+            if (brotli != null) {
+                Path br = sibling(source, ".br");
+                Process process = new ProcessBuilder(brotli, "--best", "--force", "--output=" + br, source.toString())
+                        .inheritIO()
+                        .start();
+                if (process.waitFor() != 0) {
+                    throw new IOException(brotli + " failed on " + source);
+                }
+                keepIfSmaller(br, size, written);
+            }
+        }
+        return written;
+    }
+
+    static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && COMPRESSIBLE.contains(name.substring(dot + 1)) && sizeOf(file) >= MIN_SIZE;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static Path sibling(Path source, String extension) {
+        return source.resolveSibling(source.getFileName() + extension);
+    }
+
+    private static void keepIfSmaller(Path variant, long originalSize, List<Path> written) throws IOException {
+        if (Files.size(variant) < originalSize) {
+            written.add(variant);
+        } else {
+            Files.delete(variant);
+        }
+    }
+
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
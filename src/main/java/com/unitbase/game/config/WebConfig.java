@@ -1,23 +1,76 @@
 package com.unitbase.game.config;
 
+import com.unitbase.game.serialization.WireFormatMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class WebConfig {
 
     @Bean
-    public WebMvcConfigurer corsConfigurer() {
+    public WebMvcConfigurer corsConfigurer(RateLimitInterceptor rateLimitInterceptor,
+                                           ClusterRoutingInterceptor clusterRoutingInterceptor,
+                                           ClusterAuthInterceptor clusterAuthInterceptor,
+                                           AdminAuthInterceptor adminAuthInterceptor) {
         return new WebMvcConfigurer() {
             @Override
             public void addCorsMappings(CorsRegistry registry) {
-                registry.addMapping("/api/**")
-                        .allowedOrigins("*")
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                        .allowedHeaders("*")
-                        .allowCredentials(false);
+                // Everything under /api but the cluster and admin endpoints, which browsers have no business calling
+                for (String api : List.of("/api/game/**", "/api/player/**", "/api/leaderboard/**")) {
+                    registry.addMapping(api)
+                            .allowedOrigins("*")
+                            .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                            .allowedHeaders("*")
+                            .allowCredentials(false);
+                }
+            }
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new GameIdMdcInterceptor()).addPathPatterns("/api/**");
+                registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+                registry.addInterceptor(clusterRoutingInterceptor).addPathPatterns("/api/game/**");
+                registry.addInterceptor(clusterAuthInterceptor).addPathPatterns("/api/cluster/**");
+                registry.addInterceptor(adminAuthInterceptor).addPathPatterns("/api/admin/**");
+            }
+
+            // Replaces Boot's default static mapping (spring.web.resources.add-mappings=false). Both handlers
+            // serve the build's precompressed .br/.gz copies to clients that accept them.
+            @Override
+            public void addResourceHandlers(ResourceHandlerRegistry registry) {
+                ContentEtags etags = new ContentEtags();
+                // Names carry a content hash, so a URL's bytes never change and can be cached for good
+                registry.addResourceHandler("/assets/**")
+                        .addResourceLocations("classpath:/static/assets/")
+                        .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                        .setEtagGenerator(etags)
+                        .resourceChain(true)
+                        .addResolver(new EncodedResourceResolver())
+                        .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+                // The UI page keeps its name across releases, so browsers revalidate it and get 304 until it changes
+                registry.addResourceHandler("/**")
+                        .addResourceLocations("classpath:/static/")
+                        .setCacheControl(CacheControl.noCache())
+                        .setEtagGenerator(etags)
+                        .resourceChain(true)
+                        .addResolver(new EncodedResourceResolver());
+            }
+
+            // Appended after the JSON converter so Accept: */* keeps getting JSON
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(new WireFormatMessageConverter());
             }
         };
     }
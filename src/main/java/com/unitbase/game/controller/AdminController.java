@@ -0,0 +1,58 @@
+package com.unitbase.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.unitbase.game.controller.intf.IAdminController;
+import com.unitbase.game.model.GameListing;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+public class AdminController implements IAdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+    static final String NEXT_CURSOR = "X-Next-Cursor";
+    static final int MAX_LIMIT = 10_000;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public ResponseEntity<StreamingResponseBody> listGames(@RequestParam(required = false) String status,
+                                                           @RequestParam(defaultValue = "0") long idleMs,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "1000") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT || idleMs < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            // The page is picked up front so the next cursor can go in a header; the lines
+            // themselves are written as they are produced, off the request thread
+            List<GameState> page = gameService.listGames(status, idleMs, cursor, limit, System.currentTimeMillis());
+            ObjectWriter writer = objectMapper.writerFor(GameListing.class);
+            StreamingResponseBody body = out -> {
+                for (GameState game : page) {
+                    out.write(writer.writeValueAsBytes(GameListing.of(game)));
+                    out.write('\n');
+                }
+            };
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.size() == limit) {
+                response.header(NEXT_CURSOR, page.get(limit - 1).getGameId());
+            }
+            return response.body(body);
+        } catch (Exception e) {
+            log.error("Failed to list games", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.unitbase.game.controller;
+
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.controller.intf.IClusterController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+// No CORS: only other members and operators call these, with the cluster secret
+public class ClusterController implements IClusterController {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterController.class);
+
+    @Autowired
+    private ClusterService clusterService;
+
+    public ResponseEntity<List<String>> getNodes() {
+        return ResponseEntity.ok(clusterService.getNodes());
+    }
+
+    public ResponseEntity<Map<String, Integer>> setNodes(@RequestBody List<String> nodes) {
+        try {
+            return ResponseEntity.ok(Map.of("handedOff", clusterService.setNodes(nodes)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Failed to change cluster members", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<Map<String, Integer>> leave() {
+        try {
+            return ResponseEntity.ok(Map.of("handedOff", clusterService.leave()));
+        } catch (Exception e) {
+            log.error("Failed to leave cluster", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<Map<String, Integer>> receiveGames(@RequestBody byte[] games) {
+        try {
+            return ResponseEntity.ok(Map.of("adopted", clusterService.receive(games)));
+        } catch (Exception e) {
+            log.error("Failed to adopt handed off games", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -1,20 +1,81 @@
 package com.unitbase.game.controller;
 
+import com.unitbase.game.archive.ArchivedGame;
+import com.unitbase.game.archive.GameArchive;
 import com.unitbase.game.controller.intf.IGameController;
+import com.unitbase.game.model.BatchOperation;
+import com.unitbase.game.model.BatchResult;
 import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Hint;
+import com.unitbase.game.model.JoinRequest;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.MoveOutcome;
+import com.unitbase.game.model.MoveRequest;
+import com.unitbase.game.model.MoveResult;
+import com.unitbase.game.service.BatchService;
 import com.unitbase.game.service.GameService;
+import com.unitbase.game.service.HintService;
+import com.unitbase.game.service.SpectatorHub;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 @CrossOrigin(origins = "*")
 public class GameController implements IGameController {
 
+    private static final Logger log = LoggerFactory.getLogger(GameController.class);
+
+    // Rejection bodies are built once per result so a refused move allocates no response payload
+    private static final Map<MoveResult, Map<String, String>> REJECTIONS = new EnumMap<>(MoveResult.class);
+
+    static {
+        for (MoveResult result : MoveResult.values()) {
+            Map<String, String> body = new LinkedHashMap<>();
+            body.put("result", result.name());
+            body.put("message", result.getMessage());
+            REJECTIONS.put(result, Collections.unmodifiableMap(body));
+        }
+    }
+
+    private static final Map<String, String> INVALID_REQUEST = Map.of(
+            "result", "INVALID_REQUEST",
+            "message", "Request body is malformed or out of range");
+
     @Autowired
     private GameService gameService;
 
+    @Autowired
+    private HintService hintService;
+
+    @Autowired
+    private SpectatorHub spectatorHub;
+
+    @Autowired
+    private GameArchive gameArchive;
+
+    @Autowired
+    private BatchService batchService;
+
+    // Moves are the highest-volume event, so only this fraction of them is logged
+    @Value("${ringwars.logging.move-sample-rate:0.01}")
+    private double moveSampleRate;
+
     // Test endpoint to verify server is running
     public ResponseEntity<Map<String, String>> test() {
         Map<String, String> response = new HashMap<>();
@@ -25,57 +86,77 @@ public class GameController implements IGameController {
 
     public ResponseEntity<GameState> createGame() {
         try {
-            System.out.println("Creating new game...");
             GameState game = gameService.createGame();
-            System.out.println("Game created with ID: " + game.getGameId());
+            if (game == null) {
+                log.debug("Game creation refused, node is at capacity");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            log.info("Game created gameId={}", game.getGameId());
             return ResponseEntity.ok(game);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to create game", e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
     public ResponseEntity<GameState> joinGame(@PathVariable String gameId,
-                                              @RequestBody Map<String, String> request) {
+                                              @RequestBody JoinRequest request) {
         try {
-            String playerName = request.get("playerName");
-            System.out.println("Player " + playerName + " joining game " + gameId);
+            String playerName = request.playerName();
             GameState game = gameService.joinGame(gameId, playerName);
 
             if (game != null) {
-                System.out.println("Player joined successfully. Players: " + game.getPlayers().size());
+                log.info("Player {} joined, players={}", playerName, game.getPlayers().size());
                 return ResponseEntity.ok(game);
             } else {
-                System.out.println("Failed to join game");
+                log.info("Player {} failed to join", playerName);
                 return ResponseEntity.badRequest().build();
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to join game", e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
-    public ResponseEntity<GameState> makeMove(@PathVariable String gameId,
-                                              @RequestBody Map<String, Object> move) {
+    public ResponseEntity<?> makeMove(@PathVariable String gameId,
+                                      @RequestBody MoveRequest move) {
         try {
-            int row = (Integer) move.get("row");
-            int col = (Integer) move.get("col");
-            String size = (String) move.get("size");
-            String playerColor = (String) move.get("playerColor");
+            int row = move.row();
+            int col = move.col();
+            String size = move.size().name();
+            String playerColor = move.playerColor().name();
 
-            System.out.println("Move attempt: " + playerColor + " " + size + " at " + row + "," + col);
+            MoveOutcome outcome = gameService.makeMove(gameId, row, col, size, playerColor);
+            boolean sampled = moveSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < moveSampleRate;
 
-            GameState game = gameService.makeMove(gameId, row, col, size, playerColor);
+            if (sampled && outcome.isOk()) {
+                log.info("Move {} {} at {},{} accepted, status={}", playerColor, size, row, col,
+                        outcome.game().getStatus());
+            } else if (sampled) {
+                log.info("Move {} {} at {},{} rejected: {}", playerColor, size, row, col, outcome.result());
+            }
 
-            if (game != null) {
-                System.out.println("Move successful. Status: " + game.getStatus());
-                return ResponseEntity.ok(game);
-            } else {
-                System.out.println("Move failed");
-                return ResponseEntity.badRequest().build();
+            if (outcome.isOk()) {
+                return ResponseEntity.ok(outcome.game());
             }
+            MoveResult result = outcome.result();
+            HttpStatus status = result == MoveResult.UNKNOWN_GAME ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(REJECTIONS.get(result));
+        } catch (Exception e) {
+            log.error("Failed to make move", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<List<BatchResult>> batch(@RequestBody List<BatchOperation> operations,
+                                                   HttpServletRequest request) {
+        if (operations.size() > batchService.getMaxOperations()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        try {
+            return ResponseEntity.ok(batchService.execute(operations, request.getRemoteAddr()));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to run batch", e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -90,8 +171,84 @@ public class GameController implements IGameController {
                 return ResponseEntity.notFound().build();
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to get game", e);
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    public ResponseEntity<List<Move>> getLegalMoves(@PathVariable String gameId) {
+        try {
+            List<Move> moves = gameService.getLegalMoves(gameId);
+
+            if (moves != null) {
+                return ResponseEntity.ok(moves);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            log.error("Failed to list legal moves", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<Hint> getHint(@PathVariable String gameId) {
+        try {
+            Hint hint = hintService.getHint(gameId);
+
+            if (hint != null) {
+                return ResponseEntity.ok(hint);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            log.error("Failed to compute hint", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<ResponseBodyEmitter> spectate(@PathVariable String gameId) {
+        try {
+            GameState game = gameService.getGame(gameId);
+            if (game == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            ResponseBodyEmitter emitter = spectatorHub.subscribe(game);
+            if (emitter != null) {
+                return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+            } else {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+        } catch (Exception e) {
+            log.error("Failed to subscribe spectator", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<GameState> replay(@PathVariable String gameId,
+                                            @RequestParam(required = false) Integer moves) {
+        if (moves != null && moves < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            ArchivedGame archived = gameArchive.find(gameId);
+            if (archived != null) {
+                return ResponseEntity.ok(archived.replay(moves != null ? moves : Move.MAX_CODES));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            log.error("Failed to replay game", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // Bodies that fail to bind or validate are answered here rather than in the 500 path
+    @ExceptionHandler({HttpMessageNotReadableException.class, MethodArgumentNotValidException.class})
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(Exception e) {
+        if (log.isDebugEnabled()) {
+            log.debug("Rejected request body: {}", e.getMessage());
+        }
+        return ResponseEntity.badRequest().body(INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,50 @@
+package com.unitbase.game.controller;
+
+import com.unitbase.game.controller.intf.ILeaderboardController;
+import com.unitbase.game.model.PlayerRating;
+import com.unitbase.game.service.RatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*")
+public class LeaderboardController implements ILeaderboardController {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardController.class);
+    static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private RatingService ratingService;
+
+    public ResponseEntity<List<PlayerRating>> getLeaderboard(@RequestParam(defaultValue = "0") long offset,
+                                                             @RequestParam(defaultValue = "50") int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(ratingService.getLeaderboard(offset, limit));
+        } catch (Exception e) {
+            log.error("Failed to list leaderboard", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<PlayerRating> getRating(@PathVariable String playerName) {
+        try {
+            PlayerRating rating = ratingService.getRating(playerName);
+
+            if (rating != null) {
+                return ResponseEntity.ok(rating);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            log.error("Failed to get player rating", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
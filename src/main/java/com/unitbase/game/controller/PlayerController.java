@@ -0,0 +1,109 @@
+package com.unitbase.game.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unitbase.game.archive.GameArchive;
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.controller.intf.IPlayerController;
+import com.unitbase.game.model.GameSummary;
+import com.unitbase.game.service.GameService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A player's games are spread over the cluster: live ones sit on their ring
+ * owner and archived ones on the node they finished on. Unless the request came
+ * from another member, both endpoints ask every member and merge the answers.
+ */
+@CrossOrigin(origins = "*")
+public class PlayerController implements IPlayerController {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerController.class);
+    private static final Map<String, String> ACCEPT_JSON = Map.of(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameArchive gameArchive;
+
+    @Autowired
+    private ClusterService cluster;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public ResponseEntity<List<GameSummary>> getPlayerGames(@PathVariable String playerName,
+                                                            HttpServletRequest request) {
+        try {
+            List<GameSummary> local = gameService.getPlayerGames(playerName);
+            if (!gathersFromPeers(request)) {
+                return ResponseEntity.ok(local);
+            }
+            // A game mid hand-off can be on two nodes; keep the newer copy
+            Map<String, GameSummary> merged = new LinkedHashMap<>();
+            List<GameSummary> all = new ArrayList<>(local);
+            for (byte[] body : gather(request)) {
+                all.addAll(objectMapper.readValue(body, new TypeReference<List<GameSummary>>() {}));
+            }
+            for (GameSummary game : all) {
+                merged.merge(game.gameId(), game, (a, b) -> a.version() >= b.version() ? a : b);
+            }
+            return ResponseEntity.ok(new ArrayList<>(merged.values()));
+        } catch (Exception e) {
+            log.error("Failed to list games for player", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    public ResponseEntity<List<String>> getPlayerHistory(@PathVariable String playerName,
+                                                         HttpServletRequest request) {
+        try {
+            List<String> local = gameArchive.gameIds(playerName);
+            if (!gathersFromPeers(request)) {
+                return ResponseEntity.ok(local);
+            }
+            Set<String> merged = new LinkedHashSet<>(local);
+            for (byte[] body : gather(request)) {
+                merged.addAll(objectMapper.readValue(body, new TypeReference<List<String>>() {}));
+            }
+            return ResponseEntity.ok(new ArrayList<>(merged));
+        } catch (Exception e) {
+            log.error("Failed to list archived games for player", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // A member asking on another's behalf only wants this node's own slice
+    private boolean gathersFromPeers(HttpServletRequest request) {
+        return cluster.isEnabled() && !cluster.isForwardedByPeer(request.getHeader(ClusterService.FORWARDED_HEADER),
+                request.getHeader(ClusterService.SECRET_HEADER));
+    }
+
+    private List<byte[]> gather(HttpServletRequest request) throws InterruptedException {
+        List<byte[]> bodies = new ArrayList<>();
+        for (HttpResponse<byte[]> answer : cluster.gather(request.getRequestURI(), ACCEPT_JSON)) {
+            if (answer.statusCode() == HttpStatus.OK.value()) {
+                bodies.add(answer.body());
+            } else {
+                log.warn("A member answered {} for {}", answer.statusCode(), request.getRequestURI());
+            }
+        }
+        return bodies;
+    }
+}
@@ -0,0 +1,17 @@
+package com.unitbase.game.controller.intf;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin")
+public interface IAdminController {
+
+    @GetMapping(value = "/games", produces = "application/x-ndjson")
+    ResponseEntity<StreamingResponseBody> listGames(@RequestParam(required = false) String status,
+                                                    @RequestParam(defaultValue = "0") long idleMs,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "1000") int limit);
+
+}
@@ -0,0 +1,26 @@
+package com.unitbase.game.controller.intf;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cluster")
+public interface IClusterController {
+
+    @GetMapping("/nodes")
+    ResponseEntity<List<String>> getNodes();
+
+    @PutMapping("/nodes")
+    ResponseEntity<Map<String, Integer>> setNodes(@RequestBody List<String> nodes);
+
+    @PostMapping("/leave")
+    ResponseEntity<Map<String, Integer>> leave();
+
+    @PostMapping(value = "/games", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    ResponseEntity<Map<String, Integer>> receiveGames(@RequestBody byte[] games);
+
+}
@@ -1,9 +1,20 @@
 package com.unitbase.game.controller.intf;
 
+import com.unitbase.game.model.BatchOperation;
+import com.unitbase.game.model.BatchResult;
 import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Hint;
+import com.unitbase.game.model.JoinRequest;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.MoveRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,13 +29,29 @@ public interface IGameController {
 
     @PostMapping("/{gameId}/join")
     ResponseEntity<GameState> joinGame(@PathVariable String gameId,
-                                              @RequestBody Map<String, String> request);
+                                              @Valid @RequestBody JoinRequest request);
 
     @PostMapping("/{gameId}/move")
-    ResponseEntity<GameState> makeMove(@PathVariable String gameId,
-                                       @RequestBody Map<String, Object> move);
+    ResponseEntity<?> makeMove(@PathVariable String gameId,
+                               @Valid @RequestBody MoveRequest move);
+
+    @PostMapping("/batch")
+    ResponseEntity<List<BatchResult>> batch(@RequestBody List<BatchOperation> operations, HttpServletRequest request);
 
     @GetMapping("/{gameId}")
     ResponseEntity<GameState> getGame(@PathVariable String gameId);
 
+    @GetMapping("/{gameId}/moves")
+    ResponseEntity<List<Move>> getLegalMoves(@PathVariable String gameId);
+
+    @GetMapping("/{gameId}/hint")
+    ResponseEntity<Hint> getHint(@PathVariable String gameId);
+
+    @GetMapping(value = "/{gameId}/spectate", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    ResponseEntity<ResponseBodyEmitter> spectate(@PathVariable String gameId);
+
+    @GetMapping("/{gameId}/replay")
+    ResponseEntity<GameState> replay(@PathVariable String gameId,
+                                     @RequestParam(required = false) Integer moves);
+
 }
@@ -0,0 +1,20 @@
+package com.unitbase.game.controller.intf;
+
+import com.unitbase.game.model.PlayerRating;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+public interface ILeaderboardController {
+
+    @GetMapping
+    ResponseEntity<List<PlayerRating>> getLeaderboard(@RequestParam(defaultValue = "0") long offset,
+                                                      @RequestParam(defaultValue = "50") int limit);
+
+    @GetMapping("/{playerName}")
+    ResponseEntity<PlayerRating> getRating(@PathVariable String playerName);
+
+}
@@ -0,0 +1,20 @@
+package com.unitbase.game.controller.intf;
+
+import com.unitbase.game.model.GameSummary;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/player")
+public interface IPlayerController {
+
+    @GetMapping("/{playerName}/games")
+    ResponseEntity<List<GameSummary>> getPlayerGames(@PathVariable String playerName, HttpServletRequest request);
+
+    @GetMapping("/{playerName}/history")
+    ResponseEntity<List<String>> getPlayerHistory(@PathVariable String playerName, HttpServletRequest request);
+
+}
@@ -0,0 +1,76 @@
+package com.unitbase.game.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Best moves for every canonical position reachable within the first few plies,
+ * precomputed once with {@link Search}. Keys are kept in a sorted {@code long[]}
+ * with the matching move codes in a parallel {@code byte[]}, so a lookup is a
+ * binary search over about nine bytes per position.
+ */
+public final class OpeningBook {
+    public static final OpeningBook EMPTY = new OpeningBook(new long[0], new byte[0]);
+
+    private final long[] keys;
+    private final byte[] moves;
+
+    private OpeningBook(long[] keys, byte[] moves) {
+        this.keys = keys;
+        this.moves = moves;
+    }
+
+    /**
+     * Enumerates every canonical position up to {@code plies} rings into the game
+     * and searches each one {@code searchDepth} plies deep.
+     */
+    public static OpeningBook build(int plies, int searchDepth) {
+        Set<Long> positions = new HashSet<>();
+        List<Long> frontier = List.of(0L);
+        for (int ply = 0; ply <= plies && !frontier.isEmpty(); ply++) {
+            List<Long> next = new ArrayList<>();
+            for (long position : frontier) {
+                if (Position.isWin(position, Position.RED) || Position.isWin(position, Position.BLUE)
+                        || Position.legalMoves(position) == 0 || !positions.add(position)) {
+                    continue;
+                }
+                for (int legal = Position.legalMoves(position); legal != 0; legal &= legal - 1) {
+                    next.add(Position.canonical(Position.play(position, Integer.numberOfTrailingZeros(legal))));
+                }
+            }
+            frontier = next;
+        }
+
+        long[] keys = positions.stream().mapToLong(Long::longValue).sorted().toArray();
+        byte[] moves = new byte[keys.length];
+        IntStream.range(0, keys.length).parallel()
+                .forEach(i -> moves[i] = (byte) Search.bestMove(keys[i], searchDepth));
+        return new OpeningBook(keys, moves);
+    }
+
+    /**
+     * @param canonicalPosition a position already reduced by {@link Position#canonical(long)}
+     * @return the book move in the canonical frame, or -1 when the position is not in the book
+     */
+    public int bestMove(long canonicalPosition) {
+        int index = Arrays.binarySearch(keys, canonicalPosition);
+        return index < 0 ? -1 : moves[index];
+    }
+
+    /**
+     * Book move for an arbitrary position, mapped back onto its own board.
+     */
+    public int bestMoveFor(long position) {
+        int symmetry = Position.canonicalSymmetry(position);
+        int move = bestMove(Position.transform(position, symmetry));
+        return move < 0 ? -1 : Position.transformCode(Position.inverse(symmetry), move);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,184 @@
+package com.unitbase.game.engine;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.WinPatterns;
+
+/**
+ * A two-player position packed into a single {@code long}: bits 0-26 hold the
+ * slots owned by RED, bits 27-53 the slots owned by BLUE (slot = packed move
+ * code, see {@link Move}) and bit 54 the side to move. Positions are plain values,
+ * so they can be used as cache keys and searched without allocating.
+ */
+public final class Position {
+    public static final int RED = 0;
+    public static final int BLUE = 1;
+    public static final int RINGS_PER_SIZE = 3;
+    public static final int SYMMETRIES = 8;
+
+    private static final int SLOT_BITS = Move.MAX_CODES;
+    private static final int SIDE_SHIFT = 2 * SLOT_BITS;
+    private static final int[] SIZE_SLOTS = new int[GameState.SIZES.length];
+
+    // TRANSFORM_CELL[t][cell] is where the dihedral symmetry t moves a cell
+    private static final int[][] TRANSFORM_CELL = new int[SYMMETRIES][9];
+    private static final int[] INVERSE = new int[SYMMETRIES];
+    // TRANSFORM_CHUNK[t][chunk][bits] maps a 9-slot chunk of a slot set through symmetry t
+    private static final int[][][] TRANSFORM_CHUNK = new int[SYMMETRIES][3][512];
+
+    static {
+        for (int code = 0; code < Move.MAX_CODES; code++) {
+            SIZE_SLOTS[Move.sizeIndexOf(code)] |= 1 << code;
+        }
+
+        for (int t = 0; t < SYMMETRIES; t++) {
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    int r = row;
+                    int c = col;
+                    if ((t & 4) != 0) {
+                        c = 2 - c;
+                    }
+                    for (int turn = 0; turn < (t & 3); turn++) {
+                        int rotated = c;
+                        c = 2 - r;
+                        r = rotated;
+                    }
+                    TRANSFORM_CELL[t][row * 3 + col] = r * 3 + c;
+                }
+            }
+        }
+        for (int t = 0; t < SYMMETRIES; t++) {
+            for (int u = 0; u < SYMMETRIES; u++) {
+                boolean identity = true;
+                for (int cell = 0; cell < 9; cell++) {
+                    identity &= TRANSFORM_CELL[u][TRANSFORM_CELL[t][cell]] == cell;
+                }
+                if (identity) {
+                    INVERSE[t] = u;
+                }
+            }
+            for (int chunk = 0; chunk < 3; chunk++) {
+                for (int bits = 0; bits < 512; bits++) {
+                    int mapped = 0;
+                    for (int i = 0; i < 9; i++) {
+                        if ((bits & 1 << i) != 0) {
+                            mapped |= 1 << transformCode(t, chunk * 9 + i);
+                        }
+                    }
+                    TRANSFORM_CHUNK[t][chunk][bits] = mapped;
+                }
+            }
+        }
+    }
+
+    private Position() {
+    }
+
+    public static long of(GameState game) {
+        return game.ownedSlots(RED)
+                | (long) game.ownedSlots(BLUE) << SLOT_BITS
+                | (long) (game.getCurrentPlayerIndex() & 1) << SIDE_SHIFT;
+    }
+
+    public static int colorIndex(String color) {
+        switch (color) {
+            case "RED": return RED;
+            case "BLUE": return BLUE;
+            default: return -1;
+        }
+    }
+
+    public static int slots(long position, int color) {
+        return (int) (position >>> (color * SLOT_BITS)) & WinPatterns.ALL_SLOTS;
+    }
+
+    public static int occupied(long position) {
+        return slots(position, RED) | slots(position, BLUE);
+    }
+
+    public static int sideToMove(long position) {
+        return (int) (position >>> SIDE_SHIFT) & 1;
+    }
+
+    public static int inventory(long position, int color, int sizeIndex) {
+        return RINGS_PER_SIZE - Integer.bitCount(slots(position, color) & SIZE_SLOTS[sizeIndex]);
+    }
+
+    /** Free slots of sizes the given color still has rings of. */
+    public static int legalMoves(long position, int color) {
+        int owned = slots(position, color);
+        int legal = ~occupied(position) & WinPatterns.ALL_SLOTS;
+        for (int size = 0; size < SIZE_SLOTS.length; size++) {
+            if (Integer.bitCount(owned & SIZE_SLOTS[size]) >= RINGS_PER_SIZE) {
+                legal &= ~SIZE_SLOTS[size];
+            }
+        }
+        return legal;
+    }
+
+    public static int legalMoves(long position) {
+        return legalMoves(position, sideToMove(position));
+    }
+
+    /** Moves that win on the spot for {@code color}. */
+    public static int winningMoves(long position, int color) {
+        return WinPatterns.winningSlots(slots(position, color), occupied(position))
+                & legalMoves(position, color);
+    }
+
+    public static boolean isWin(long position, int color) {
+        return WinPatterns.isWin(slots(position, color));
+    }
+
+    /**
+     * Places a ring for the side to move and passes the turn, unless the opponent
+     * has no legal move left, in which case the mover plays again.
+     */
+    public static long play(long position, int code) {
+        int side = sideToMove(position);
+        long next = position | 1L << (side * SLOT_BITS + code);
+        if (legalMoves(next, 1 - side) != 0) {
+            next ^= 1L << SIDE_SHIFT;
+        }
+        return next;
+    }
+
+    public static int transformCode(int symmetry, int code) {
+        return TRANSFORM_CELL[symmetry][code / 3] * 3 + code % 3;
+    }
+
+    public static int inverse(int symmetry) {
+        return INVERSE[symmetry];
+    }
+
+    public static int transformSlots(int symmetry, int slots) {
+        int[][] table = TRANSFORM_CHUNK[symmetry];
+        return table[0][slots & 511] | table[1][(slots >>> 9) & 511] | table[2][(slots >>> 18) & 511];
+    }
+
+    public static long transform(long position, int symmetry) {
+        return transformSlots(symmetry, slots(position, RED))
+                | (long) transformSlots(symmetry, slots(position, BLUE)) << SLOT_BITS
+                | position & 1L << SIDE_SHIFT;
+    }
+
+    /** The symmetry that maps {@code position} onto its canonical form. */
+    public static int canonicalSymmetry(long position) {
+        long best = position;
+        int bestSymmetry = 0;
+        for (int t = 1; t < SYMMETRIES; t++) {
+            long candidate = transform(position, t);
+            if (candidate < best) {
+                best = candidate;
+                bestSymmetry = t;
+            }
+        }
+        return bestSymmetry;
+    }
+
+    /** The smallest of the eight rotations and reflections of {@code position}. */
+    public static long canonical(long position) {
+        return transform(position, canonicalSymmetry(position));
+    }
+}
@@ -0,0 +1,92 @@
+package com.unitbase.game.engine;
+
+import com.unitbase.game.model.WinPatterns;
+
+/**
+ * Depth-limited negamax with alpha-beta pruning over packed {@link Position}s.
+ * Stateless and allocation-free, so one instance can be shared across threads.
+ */
+public final class Search {
+    public static final int WIN = 1_000;
+
+    private Search() {
+    }
+
+    /**
+     * @return the best move code for the side to move, or -1 when it has no legal move
+     */
+    public static int bestMove(long position, int depth) {
+        int side = Position.sideToMove(position);
+        int legal = Position.legalMoves(position, side);
+        if (legal == 0) {
+            return -1;
+        }
+        int wins = Position.winningMoves(position, side);
+        if (wins != 0) {
+            return Integer.numberOfTrailingZeros(wins);
+        }
+
+        int best = Integer.numberOfTrailingZeros(legal);
+        int alpha = -WIN - 1;
+        for (int moves = ordered(position, side, legal); moves != 0; moves &= moves - 1) {
+            int code = Integer.numberOfTrailingZeros(moves);
+            int score = scoreAfter(position, side, code, depth - 1, alpha, WIN + 1, 1);
+            if (score > alpha) {
+                alpha = score;
+                best = code;
+            }
+        }
+        return best;
+    }
+
+    private static int scoreAfter(long position, int side, int code, int depth, int alpha, int beta, int ply) {
+        long next = Position.play(position, code);
+        int mover = Position.sideToMove(next);
+        int score = negamax(next, depth, mover == side ? alpha : -beta, mover == side ? beta : -alpha, ply);
+        return mover == side ? score : -score;
+    }
+
+    private static int negamax(long position, int depth, int alpha, int beta, int ply) {
+        int side = Position.sideToMove(position);
+        int legal = Position.legalMoves(position, side);
+        if (legal == 0) {
+            return 0;
+        }
+        if (Position.winningMoves(position, side) != 0) {
+            return WIN - ply;
+        }
+        if (depth <= 0) {
+            return evaluate(position, side);
+        }
+
+        int best = -WIN - 1;
+        for (int moves = ordered(position, side, legal); moves != 0; moves &= moves - 1) {
+            int code = Integer.numberOfTrailingZeros(moves);
+            int score = scoreAfter(position, side, code, depth - 1, alpha, beta, ply + 1);
+            if (score > best) {
+                best = score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    // Blocking moves first: they are forced more often than not and prune the rest early.
+    private static int ordered(long position, int side, int legal) {
+        int blocks = Position.winningMoves(position, 1 - side) & legal;
+        return blocks != 0 ? blocks : legal;
+    }
+
+    /** Static score for the side to move: open threats it owns minus those of the opponent. */
+    public static int evaluate(long position, int side) {
+        int occupied = Position.occupied(position);
+        int mine = Integer.bitCount(WinPatterns.winningSlots(Position.slots(position, side), occupied));
+        int theirs = Integer.bitCount(WinPatterns.winningSlots(Position.slots(position, 1 - side), occupied));
+        return mine - theirs;
+    }
+}
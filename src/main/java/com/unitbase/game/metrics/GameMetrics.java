@@ -0,0 +1,132 @@
+package com.unitbase.game.metrics;
+
+import com.unitbase.game.model.Cell;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.MoveResult;
+import com.unitbase.game.model.Ring;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Domain metrics for the game service. Every meter is registered up front so
+ * the request path only does a map lookup and an atomic update.
+ */
+@Component
+public class GameMetrics {
+    public static final String OPERATION_TIMER = "ringwars.game.operation";
+
+    private final Map<String, Timer> operations = new HashMap<>();
+    private final Map<MoveResult, Counter> rejectedMoves = new EnumMap<>(MoveResult.class);
+    private final Map<String, Counter> finishedGames = new HashMap<>();
+    private final Map<String, AtomicLong> gamesByStatus = new HashMap<>();
+    private final Counter rejectedGames;
+
+    public GameMetrics(MeterRegistry registry) {
+        for (String operation : List.of("create", "join", "move", "get")) {
+            operations.put(operation, Timer.builder(OPERATION_TIMER)
+                    .description("Latency of game operations")
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (MoveResult result : MoveResult.values()) {
+            if (!result.isOk()) {
+                rejectedMoves.put(result, Counter.builder("ringwars.moves.rejected")
+                        .description("Moves refused by the game rules")
+                        .tag("reason", result.name().toLowerCase(Locale.ROOT))
+                        .register(registry));
+            }
+        }
+        for (String winType : List.of("concentric", "same_size", "size_order", "draw")) {
+            finishedGames.put(winType, Counter.builder("ringwars.games.finished")
+                    .description("Completed games by winning condition")
+                    .tag("win_type", winType)
+                    .register(registry));
+        }
+        rejectedGames = Counter.builder("ringwars.games.rejected")
+                .description("Game creations refused by admission control")
+                .register(registry);
+        for (String status : List.of("WAITING", "PLAYING", "FINISHED")) {
+            AtomicLong count = new AtomicLong();
+            gamesByStatus.put(status, count);
+            Gauge.builder("ringwars.games", count, AtomicLong::get)
+                    .description("Games currently held in memory")
+                    .tag("status", status)
+                    .register(registry);
+        }
+    }
+
+    public void recordOperation(String operation, long startNanos) {
+        operations.get(operation).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void gameCreated(GameState game) {
+        gamesByStatus.get(game.getStatus()).incrementAndGet();
+    }
+
+    public void gameRejected() {
+        rejectedGames.increment();
+    }
+
+    public void statusChanged(String from, String to) {
+        if (!from.equals(to)) {
+            gamesByStatus.get(from).decrementAndGet();
+            gamesByStatus.get(to).incrementAndGet();
+        }
+    }
+
+    public void gameRemoved(GameState game) {
+        AtomicLong count = gamesByStatus.get(game.getStatus());
+        if (count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    public void gameFinished(GameState game) {
+        Counter counter = finishedGames.get(winType(game));
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    public void moveRejected(MoveResult result) {
+        rejectedMoves.get(result).increment();
+    }
+
+    static String winType(GameState game) {
+        List<String> line = game.getWinningLine();
+        if (game.getWinner() == null) {
+            return "FINISHED".equals(game.getStatus()) ? "draw" : null;
+        }
+        if (line == null) {
+            return null;
+        }
+        if (line.size() == 1) {
+            return "concentric";
+        }
+        for (String size : GameState.SIZES) {
+            boolean sameSize = true;
+            for (String position : line) {
+                String[] cell = position.split(",");
+                Cell c = game.getBoard()[Integer.parseInt(cell[0])][Integer.parseInt(cell[1])];
+                Ring ring = c.getTopRingOfSize(size);
+                sameSize &= ring != null && ring.getColor().equals(game.getWinner());
+            }
+            if (sameSize) {
+                return "same_size";
+            }
+        }
+        return "size_order";
+    }
+}
@@ -0,0 +1,31 @@
+package com.unitbase.game.model;
+
+/**
+ * One operation in a batch request. Which fields are needed depends on
+ * {@code op}: {@code gameId} for everything but CREATE, {@code playerName} for
+ * JOIN and the move fields for MOVE. A {@code gameId} of {@code "$n"} refers to
+ * the game created by operation {@code n} of the same batch.
+ */
+public record BatchOperation(Op op, String gameId, String playerName,
+                             Integer row, Integer col, RingSize size, PlayerColor playerColor) {
+
+    public enum Op { CREATE, JOIN, MOVE, GET }
+
+    public static final String REFERENCE_PREFIX = "$";
+
+    public boolean isValid() {
+        if (op == null) {
+            return false;
+        }
+        if (op != Op.CREATE && (gameId == null || gameId.isBlank())) {
+            return false;
+        }
+        return switch (op) {
+            case JOIN -> playerName != null && !playerName.isBlank() && playerName.length() <= 32;
+            case MOVE -> row != null && row >= 0 && row < GameState.BOARD_SIZE
+                    && col != null && col >= 0 && col < GameState.BOARD_SIZE
+                    && size != null && playerColor != null;
+            default -> true;
+        };
+    }
+}
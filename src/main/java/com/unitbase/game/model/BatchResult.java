@@ -0,0 +1,27 @@
+package com.unitbase.game.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * Outcome of one batch operation, at the same index as the operation. {@code status}
+ * is the HTTP status the single-operation endpoint would have answered with.
+ * {@code game} is the game's JSON as it stood right after the operation, captured
+ * before later operations on the same game ran. {@code owner} is set when another
+ * node owns the game and the operation should be sent there.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult(int status, String result, String message, String owner, RawValue game) {
+
+    public static BatchResult ok(RawValue game) {
+        return new BatchResult(200, MoveResult.OK.name(), null, null, game);
+    }
+
+    public static BatchResult error(int status, String result, String message) {
+        return new BatchResult(status, result, message, null, null);
+    }
+
+    public static BatchResult misdirected(String owner) {
+        return new BatchResult(421, "NOT_OWNER", "The game is held by another node", owner, null);
+    }
+}
@@ -11,16 +11,26 @@ public class Cell {
 
     public boolean canPlaceRing(String size, String color) {
         // Check if there's already a ring of the same size (regardless of color)
-        return rings.stream().noneMatch(ring -> ring.getSize().equals(size));
+        for (int i = 0; i < rings.size(); i++) {
+            if (rings.get(i).getSize().equals(size)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public void placeRing(String size, String color) {
-        rings.push(new Ring(size, color));
+        rings.push(Ring.of(size, color));
     }
 
     public boolean hasRing(String size, String color) {
-        return rings.stream().anyMatch(ring ->
-                ring.getSize().equals(size) && ring.getColor().equals(color));
+        for (int i = 0; i < rings.size(); i++) {
+            Ring ring = rings.get(i);
+            if (ring.getSize().equals(size) && ring.getColor().equals(color)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean hasTopRing(String size, String color) {
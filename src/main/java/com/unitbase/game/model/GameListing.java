@@ -0,0 +1,31 @@
+package com.unitbase.game.model;
+
+import java.util.List;
+
+/**
+ * One line of the admin game listing.
+ *
+ * @param players      names in join order
+ * @param approxBytes  rough heap footprint of the game, for spotting what is holding memory
+ */
+public record GameListing(String gameId, String status, List<String> players, int moveCount,
+                          long lastActivity, long approxBytes) {
+
+    // GameState with its arrays, the 3x3 board of stack-backed cells and the id string;
+    // rings are shared flyweights, so placing them adds nothing
+    private static final long GAME_BYTES = 1_200;
+    // Player with its ring inventory map and name string header
+    private static final long PLAYER_BYTES = 300;
+
+    public static GameListing of(GameState game) {
+        List<Player> players = game.getPlayers();
+        String[] names = new String[players.size()];
+        long bytes = GAME_BYTES;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).getName();
+            bytes += PLAYER_BYTES + names[i].length();
+        }
+        return new GameListing(game.getGameId(), game.getStatus(), List.of(names), game.moveCount(),
+                game.getLastActivity(), bytes);
+    }
+}
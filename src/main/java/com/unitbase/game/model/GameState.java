@@ -2,13 +2,30 @@ package com.unitbase.game.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class GameState {
     public static final int BOARD_SIZE = 3;
     public static final String[] COLORS = {"RED", "BLUE", "GREEN", "YELLOW"};
     public static final String[] SIZES = {"SMALL", "MEDIUM", "LARGE"};
+    private static final int[] SIZE_SLOTS = {0x1249249, 0x2492492, 0x4924924};
+    // Winning line values ("row,col" per cell), built once so detecting a win allocates nothing
+    private static final List<List<String>> CELL_NAMES = new ArrayList<>();
+    private static final List<List<String>> LINE_NAMES = new ArrayList<>();
+
+    static {
+        String[] names = new String[BOARD_SIZE * BOARD_SIZE];
+        for (int cell = 0; cell < names.length; cell++) {
+            names[cell] = cell / BOARD_SIZE + "," + cell % BOARD_SIZE;
+            CELL_NAMES.add(List.of(names[cell]));
+        }
+        for (int[] line : WinPatterns.LINES) {
+            LINE_NAMES.add(List.of(names[line[0]], names[line[1]], names[line[2]]));
+        }
+    }
 
     private final String gameId;
     private final List<Player> players;
@@ -18,9 +35,22 @@ public class GameState {
     private String winner;
     private List<String> winningLine;
     private long lastActivity;
+    // Bumped on every change a client can see, so pollers can tell when nothing changed
+    private int version;
+    // Slot sets (see WinPatterns) per player index, kept in step with the board by makeMove
+    private final int[] ownedSlots = new int[2];
+    private int occupiedSlots;
+    // Free slots that would complete a win for each player, maintained incrementally
+    private final int[] threatSlots = new int[2];
+    // Codes of the accepted moves in play order; moveCount() of them are filled
+    private final byte[] moveCodes = new byte[Move.MAX_CODES];
 
     public GameState() {
-        this.gameId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString());
+    }
+
+    public GameState(String gameId) {
+        this.gameId = gameId;
         this.players = new ArrayList<>();
         this.currentPlayerIndex = 0;
         this.board = new Cell[BOARD_SIZE][BOARD_SIZE];
@@ -51,43 +81,157 @@ public class GameState {
         }
 
         lastActivity = System.currentTimeMillis();
+        version++;
         return true;
     }
 
     public boolean makeMove(int row, int col, String size, String playerColor) {
-        if (!status.equals("PLAYING") || row < 0 || row >= BOARD_SIZE ||
-                col < 0 || col >= BOARD_SIZE) {
-            return false;
+        return tryMove(row, col, size, playerColor) == MoveResult.OK;
+    }
+
+    public MoveResult tryMove(int row, int col, String size, String playerColor) {
+        if (!status.equals("PLAYING")) {
+            return MoveResult.GAME_NOT_PLAYING;
+        }
+
+        if (row < 0 || row >= BOARD_SIZE || col < 0 || col >= BOARD_SIZE) {
+            return MoveResult.OUT_OF_BOUNDS;
         }
 
         Player currentPlayer = players.get(currentPlayerIndex);
         if (!currentPlayer.getColor().equals(playerColor)) {
-            return false;
+            return MoveResult.NOT_YOUR_TURN;
         }
 
         if (!currentPlayer.hasRing(size)) {
-            return false;
+            return MoveResult.NO_RING;
         }
 
         Cell cell = board[row][col];
         if (!cell.canPlaceRing(size, playerColor)) {
-            return false;
+            return MoveResult.CELL_OCCUPIED;
         }
 
         cell.placeRing(size, playerColor);
         currentPlayer.useRing(size);
+        int code = Move.encode(row, col, sizeIndex(size));
+        moveCodes[moveCount()] = (byte) code;
+        updateSlots(code);
 
         // Check for win
         String winResult = checkWin();
         if (winResult != null) {
             winner = winResult;
             status = "FINISHED";
+        } else if (!hasPlayableRings()) {
+            // a draw: every ring is on the board and nobody completed a pattern
+            status = "FINISHED";
         } else {
             nextPlayer();
         }
 
         lastActivity = System.currentTimeMillis();
-        return true;
+        version++;
+        return MoveResult.OK;
+    }
+
+    // Only patterns through the new slot can gain a threat, and a threat can only
+    // disappear by its slot being taken, so one pass over those patterns is enough.
+    private void updateSlots(int code) {
+        int bit = 1 << code;
+        int owned = ownedSlots[currentPlayerIndex] |= bit;
+        occupiedSlots |= bit;
+        threatSlots[0] &= ~bit;
+        threatSlots[1] &= ~bit;
+        for (int pattern : WinPatterns.through(code)) {
+            int missing = pattern & ~owned;
+            if ((missing & (missing - 1)) == 0 && (missing & occupiedSlots) == 0) {
+                threatSlots[currentPlayerIndex] |= missing;
+            }
+        }
+    }
+
+    /** Rings placed so far; every accepted move takes exactly one slot. */
+    public int moveCount() {
+        return Integer.bitCount(occupiedSlots);
+    }
+
+    /** Codes (see {@link Move}) of the moves played so far, oldest first. */
+    public byte[] moveCodes() {
+        return Arrays.copyOf(moveCodes, moveCount());
+    }
+
+    /** Slots owned by the player at {@code playerIndex}, indexed by move code. */
+    public int ownedSlots(int playerIndex) {
+        return ownedSlots[playerIndex];
+    }
+
+    /**
+     * Moves that would win immediately for the player at {@code playerIndex},
+     * limited to ring sizes that player still has, indexed by move code.
+     */
+    public int threatSlots(int playerIndex) {
+        if (playerIndex >= players.size()) {
+            return 0;
+        }
+        Player player = players.get(playerIndex);
+        int threats = threatSlots[playerIndex];
+        for (int s = 0; s < SIZES.length; s++) {
+            if (!player.hasRing(SIZES[s])) {
+                threats &= ~SIZE_SLOTS[s];
+            }
+        }
+        return threats;
+    }
+
+    /**
+     * Writes the packed codes (see {@link Move}) of every legal move for the
+     * current player into {@code buffer}, which must hold at least
+     * {@link Move#MAX_CODES} entries, and returns how many were written.
+     */
+    public int legalMoves(int[] buffer) {
+        int mask = legalMoveMask();
+        int count = 0;
+        while (mask != 0) {
+            buffer[count++] = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return count;
+    }
+
+    /**
+     * Legal moves for the current player as a bit set indexed by move code.
+     */
+    public int legalMoveMask() {
+        if (!status.equals("PLAYING")) {
+            return 0;
+        }
+
+        Player currentPlayer = players.get(currentPlayerIndex);
+        int mask = 0;
+        for (int s = 0; s < SIZES.length; s++) {
+            String size = SIZES[s];
+            if (!currentPlayer.hasRing(size)) {
+                continue;
+            }
+            for (int row = 0; row < BOARD_SIZE; row++) {
+                for (int col = 0; col < BOARD_SIZE; col++) {
+                    if (board[row][col].canPlaceRing(size, currentPlayer.getColor())) {
+                        mask |= 1 << Move.encode(row, col, s);
+                    }
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static int sizeIndex(String size) {
+        switch (size) {
+            case "SMALL": return 0;
+            case "MEDIUM": return 1;
+            case "LARGE": return 2;
+            default: return -1;
+        }
     }
 
     private void nextPlayer() {
@@ -97,109 +241,77 @@ public class GameState {
     }
 
     private boolean hasPlayableRings() {
-        return players.stream().anyMatch(Player::hasAnyRings);
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).hasAnyRings()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public String checkWin() {
         // Check Concentric rings (same cell) first
-        for (int i = 0; i < BOARD_SIZE; i++) {
-            for (int j = 0; j < BOARD_SIZE; j++) {
-                Cell cell = board[i][j];
-                for (String color : COLORS) {
-                    if (cell.hasRing("SMALL", color) &&
-                            cell.hasRing("MEDIUM", color) &&
-                            cell.hasRing("LARGE", color)) {
-                        winningLine = List.of(i + "," + j);
-                        return color;
-                    }
-                }
+        for (int cell = 0; cell < BOARD_SIZE * BOARD_SIZE; cell++) {
+            String color = ringColor(cell, SIZES[0]);
+            if (color != null && color.equals(ringColor(cell, SIZES[1])) && color.equals(ringColor(cell, SIZES[2]))) {
+                winningLine = CELL_NAMES.get(cell);
+                return color;
             }
         }
 
         // Check all possible lines for wins
-        List<List<int[]>> lines = getAllLines();
-
-        for (List<int[]> line : lines) {
-            String winner = checkLineWin(line);
+        for (int i = 0; i < WinPatterns.LINES.length; i++) {
+            String winner = checkLineWin(WinPatterns.LINES[i]);
             if (winner != null) {
-                winningLine = new ArrayList<>();
-                for (int[] pos : line) {
-                    winningLine.add(pos[0] + "," + pos[1]);
-                }
+                winningLine = LINE_NAMES.get(i);
                 return winner;
             }
         }
         return null;
     }
 
-    private String checkLineWin(List<int[]> line) {
+    private String checkLineWin(int[] line) {
         // Win condition 1: Same size rings
         for (String size : SIZES) {
-            for (String color : COLORS) {
-                if (line.stream().allMatch(pos -> {
-                    Cell cell = board[pos[0]][pos[1]];
-                    Ring topRing = cell.getTopRingOfSize(size);
-                    return topRing != null && topRing.getColor().equals(color);
-                })) {
-                    return color;
-                }
-            }
-        }
-
-        // Win condition 2: Ascending/Descending size order
-        for (String color : COLORS) {
-            if (checkSizeOrder(line, color, true) || checkSizeOrder(line, color, false)) {
+            String color = ringColor(line[0], size);
+            if (color != null && color.equals(ringColor(line[1], size)) && color.equals(ringColor(line[2], size))) {
                 return color;
             }
         }
 
-        return null;
+        // Win condition 2: Ascending/Descending size order, earlier color first if both hold
+        String ascending = sizeOrderColor(line, SIZES[0], SIZES[2]);
+        String descending = sizeOrderColor(line, SIZES[2], SIZES[0]);
+        if (ascending == null) {
+            return descending;
+        }
+        if (descending == null || colorIndex(ascending) <= colorIndex(descending)) {
+            return ascending;
+        }
+        return descending;
     }
 
-    private boolean checkSizeOrder(List<int[]> line, String color, boolean ascending) {
-        String[] order = ascending ?
-                new String[]{"SMALL", "MEDIUM", "LARGE"} :
-                new String[]{"LARGE", "MEDIUM", "SMALL"};
-
-        for (int i = 0; i < line.size(); i++) {
-            int[] pos = line.get(i);
-            Cell cell = board[pos[0]][pos[1]];
-            Ring topRing = cell.getTopRingOfSize(order[i]);
-            if (topRing == null || !topRing.getColor().equals(color)) {
-                return false;
-            }
+    // Color owning first, MEDIUM and last along the line, or null
+    private String sizeOrderColor(int[] line, String first, String last) {
+        String color = ringColor(line[0], first);
+        if (color != null && color.equals(ringColor(line[1], SIZES[1])) && color.equals(ringColor(line[2], last))) {
+            return color;
         }
-        return true;
+        return null;
     }
 
-    private List<List<int[]>> getAllLines() {
-        List<List<int[]>> lines = new ArrayList<>();
-
-        // Rows
-        for (int i = 0; i < BOARD_SIZE; i++) {
-            List<int[]> row = new ArrayList<>();
-            for (int j = 0; j < BOARD_SIZE; j++) {
-                row.add(new int[]{i, j});
-            }
-            lines.add(row);
-        }
+    private String ringColor(int cell, String size) {
+        Ring ring = board[cell / BOARD_SIZE][cell % BOARD_SIZE].getTopRingOfSize(size);
+        return ring == null ? null : ring.getColor();
+    }
 
-        // Columns
-        for (int j = 0; j < BOARD_SIZE; j++) {
-            List<int[]> col = new ArrayList<>();
-            for (int i = 0; i < BOARD_SIZE; i++) {
-                col.add(new int[]{i, j});
+    private static int colorIndex(String color) {
+        for (int i = 0; i < COLORS.length; i++) {
+            if (COLORS[i].equals(color)) {
+                return i;
             }
-            lines.add(col);
         }
-
-        // Diagonals
-        List<int[]> diag1 = Arrays.asList(new int[]{0,0}, new int[]{1,1}, new int[]{2,2});
-        List<int[]> diag2 = Arrays.asList(new int[]{0,2}, new int[]{1,1}, new int[]{2,0});
-        lines.add(diag1);
-        lines.add(diag2);
-
-        return lines;
+        return COLORS.length;
     }
 
     // Getters and setters
@@ -210,7 +322,21 @@ public class GameState {
     public String getStatus() { return status; }
     public String getWinner() { return winner; }
     public List<String> getWinningLine() { return winningLine; }
+
+    /** One-move-from-win threats per player color. */
+    public Map<String, List<Move>> getThreats() {
+        Map<String, List<Move>> threats = new LinkedHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            List<Move> moves = new ArrayList<>();
+            for (int slots = threatSlots(i); slots != 0; slots &= slots - 1) {
+                moves.add(Move.decode(Integer.numberOfTrailingZeros(slots)));
+            }
+            threats.put(players.get(i).getColor(), moves);
+        }
+        return threats;
+    }
     public long getLastActivity() { return lastActivity; }
+    public int getVersion() { return version; }
 
     public Player getCurrentPlayer() {
         if (players.isEmpty()) return null;
@@ -219,18 +345,22 @@ public class GameState {
 
     public void setCurrentPlayerIndex(int currentPlayerIndex) {
         this.currentPlayerIndex = currentPlayerIndex;
+        version++;
     }
 
     public void setStatus(String status) {
         this.status = status;
+        version++;
     }
 
     public void setWinner(String winner) {
         this.winner = winner;
+        version++;
     }
 
     public void setWinningLine(List<String> winningLine) {
         this.winningLine = winningLine;
+        version++;
     }
 
     public void setLastActivity(long lastActivity) {
@@ -0,0 +1,33 @@
+package com.unitbase.game.model;
+
+import java.util.List;
+
+/**
+ * Compact view of one game from a player's side, for listing many games at once.
+ *
+ * @param opponent  the other player's name, or {@code null} while waiting for one
+ * @param yourTurn  whether the game is being played and it is this player's move
+ * @param version   the game's state version, so clients can fetch only games that changed
+ */
+public record GameSummary(String gameId, String status, String color, String opponent,
+                          boolean yourTurn, int version, long lastActivity) {
+
+    public static GameSummary of(GameState game, String playerName) {
+        List<Player> players = game.getPlayers();
+        int self = 0;
+        while (self < players.size() - 1 && !players.get(self).getName().equals(playerName)) {
+            self++;
+        }
+        String opponent = null;
+        for (int i = 0; i < players.size(); i++) {
+            if (i != self) {
+                opponent = players.get(i).getName();
+            }
+        }
+        String status = game.getStatus();
+        return new GameSummary(game.getGameId(), status,
+                players.isEmpty() ? null : players.get(self).getColor(), opponent,
+                "PLAYING".equals(status) && game.getCurrentPlayerIndex() == self,
+                game.getVersion(), game.getLastActivity());
+    }
+}
@@ -0,0 +1,15 @@
+package com.unitbase.game.model;
+
+import java.util.List;
+
+/**
+ * Analysis of the current position for the player to move.
+ *
+ * @param immediateWins moves that win the game on the spot
+ * @param forcedBlocks  moves that take a slot the opponent would otherwise win with
+ * @param recommended   suggested move, or {@code null} when the game is not being played
+ */
+public record Hint(List<Move> immediateWins, List<Move> forcedBlocks, Move recommended) {
+
+    public static final Hint NONE = new Hint(List.of(), List.of(), null);
+}
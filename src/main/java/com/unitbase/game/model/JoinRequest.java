@@ -0,0 +1,10 @@
+package com.unitbase.game.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Body of a join request.
+ */
+public record JoinRequest(@NotBlank @Size(max = 32) String playerName) {
+}
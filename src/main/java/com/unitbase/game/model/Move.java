@@ -0,0 +1,36 @@
+package com.unitbase.game.model;
+
+/**
+ * A ring placement. Hot paths pass moves around as packed int codes instead,
+ * {@code (row * BOARD_SIZE + col) * SIZES.length + sizeIndex}, in the range
+ * {@code [0, MAX_CODES)}.
+ */
+public record Move(int row, int col, String size) {
+    // SIZES.length spelled out so this is a compile-time constant: GameState and WinPatterns
+    // read it during their own initialization, whichever class happens to load first
+    public static final int MAX_CODES = GameState.BOARD_SIZE * GameState.BOARD_SIZE * 3;
+
+    public static int encode(int row, int col, int sizeIndex) {
+        return (row * GameState.BOARD_SIZE + col) * GameState.SIZES.length + sizeIndex;
+    }
+
+    public static int rowOf(int code) {
+        return code / GameState.SIZES.length / GameState.BOARD_SIZE;
+    }
+
+    public static int colOf(int code) {
+        return code / GameState.SIZES.length % GameState.BOARD_SIZE;
+    }
+
+    public static int sizeIndexOf(int code) {
+        return code % GameState.SIZES.length;
+    }
+
+    public static Move decode(int code) {
+        return new Move(rowOf(code), colOf(code), GameState.SIZES[sizeIndexOf(code)]);
+    }
+
+    public int code() {
+        return encode(row, col, GameState.sizeIndex(size));
+    }
+}
@@ -0,0 +1,34 @@
+package com.unitbase.game.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A move's result together with the game it was applied to, so callers need no
+ * second lookup that could miss a game evicted in between. Rejections carry no
+ * game and are shared constants.
+ */
+public record MoveOutcome(MoveResult result, GameState game) {
+
+    private static final Map<MoveResult, MoveOutcome> REJECTIONS = new EnumMap<>(MoveResult.class);
+
+    static {
+        for (MoveResult result : MoveResult.values()) {
+            if (!result.isOk()) {
+                REJECTIONS.put(result, new MoveOutcome(result, null));
+            }
+        }
+    }
+
+    public static MoveOutcome accepted(GameState game) {
+        return new MoveOutcome(MoveResult.OK, game);
+    }
+
+    public static MoveOutcome rejected(MoveResult result) {
+        return REJECTIONS.get(result);
+    }
+
+    public boolean isOk() {
+        return result.isOk();
+    }
+}
@@ -0,0 +1,16 @@
+package com.unitbase.game.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of a move request. Coordinates are boxed only so a missing field is
+ * reported instead of defaulting to 0; values 0..2 come from the Integer cache.
+ */
+public record MoveRequest(
+        @NotNull @Min(0) @Max(GameState.BOARD_SIZE - 1) Integer row,
+        @NotNull @Min(0) @Max(GameState.BOARD_SIZE - 1) Integer col,
+        @NotNull RingSize size,
+        @NotNull PlayerColor playerColor) {
+}
@@ -0,0 +1,25 @@
+package com.unitbase.game.model;
+
+/**
+ * Outcome of a move attempt. Constants are shared, so reporting a rejection
+ * costs nothing beyond returning a reference.
+ */
+public enum MoveResult {
+    OK("Move accepted"),
+    UNKNOWN_GAME("No game with that id"),
+    GAME_NOT_PLAYING("The game is not in progress"),
+    OUT_OF_BOUNDS("Row and column must be between 0 and " + (GameState.BOARD_SIZE - 1)),
+    NOT_YOUR_TURN("It is the other player's turn"),
+    NO_RING("No ring of that size left"),
+    CELL_OCCUPIED("A ring of that size is already in the cell");
+
+    private final String message;
+
+    MoveResult(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() { return message; }
+
+    public boolean isOk() { return this == OK; }
+}
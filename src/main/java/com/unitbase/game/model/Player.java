@@ -22,7 +22,12 @@ public class Player {
     }
 
     public boolean hasAnyRings() {
-        return rings.values().stream().anyMatch(count -> count > 0);
+        for (int count : rings.values()) {
+            if (count > 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void useRing(String size) {
@@ -0,0 +1,9 @@
+package com.unitbase.game.model;
+
+/**
+ * Player colors in seating order, matching {@link GameState#COLORS}.
+ * Request bodies bind straight to these constants; an unknown color fails deserialization.
+ */
+public enum PlayerColor {
+    RED, BLUE, GREEN, YELLOW
+}
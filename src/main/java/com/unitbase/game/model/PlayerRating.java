@@ -0,0 +1,10 @@
+package com.unitbase.game.model;
+
+/**
+ * A player's place on the leaderboard.
+ *
+ * @param rank    1 for the highest rating; players on the same rating are ranked by name
+ * @param rating  Elo rating, starting from 1500
+ */
+public record PlayerRating(long rank, String playerName, double rating, int games, int wins, int draws, int losses) {
+}
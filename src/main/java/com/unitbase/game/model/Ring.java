@@ -1,14 +1,35 @@
 package com.unitbase.game.model;
 
 public class Ring {
-    private String size;
-    private String color;
+    // One shared instance per size and color; rings are immutable, so placing one allocates nothing
+    private static final Ring[][] SHARED = new Ring[GameState.SIZES.length][GameState.COLORS.length];
+
+    static {
+        for (int s = 0; s < GameState.SIZES.length; s++) {
+            for (int c = 0; c < GameState.COLORS.length; c++) {
+                SHARED[s][c] = new Ring(GameState.SIZES[s], GameState.COLORS[c]);
+            }
+        }
+    }
+
+    private final String size;
+    private final String color;
 
     public Ring(String size, String color) {
         this.size = size;
         this.color = color;
     }
 
+    public static Ring of(String size, String color) {
+        int s = GameState.sizeIndex(size);
+        for (int c = 0; s >= 0 && c < GameState.COLORS.length; c++) {
+            if (GameState.COLORS[c].equals(color)) {
+                return SHARED[s][c];
+            }
+        }
+        return new Ring(size, color);
+    }
+
     public String getSize() { return size; }
     public String getColor() { return color; }
 }
@@ -0,0 +1,9 @@
+package com.unitbase.game.model;
+
+/**
+ * Ring sizes in slot order, so {@link #ordinal()} equals {@link GameState#sizeIndex(String)}.
+ * Request bodies bind straight to these constants; an unknown size fails deserialization.
+ */
+public enum RingSize {
+    SMALL, MEDIUM, LARGE
+}
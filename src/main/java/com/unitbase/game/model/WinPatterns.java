@@ -0,0 +1,93 @@
+package com.unitbase.game.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every winning placement expressed as a 27-bit set of board slots, where a slot
+ * is a packed {@link Move} code (one cell and one ring size). A color wins once
+ * it owns all three slots of any pattern: a row, column or diagonal of one size,
+ * a SMALL-MEDIUM-LARGE progression in either direction, or a concentric stack.
+ */
+public final class WinPatterns {
+    public static final int ALL_SLOTS = (1 << Move.MAX_CODES) - 1;
+
+    // cell indexes (row * BOARD_SIZE + col) of each line, in the same order as GameState checks them
+    public static final int[][] LINES = {
+            {0, 1, 2}, {3, 4, 5}, {6, 7, 8},
+            {0, 3, 6}, {1, 4, 7}, {2, 5, 8},
+            {0, 4, 8}, {2, 4, 6}
+    };
+
+    public static final int[] PATTERNS;
+
+    private static final int[][] THROUGH_SLOT = new int[Move.MAX_CODES][];
+
+    static {
+        List<Integer> patterns = new ArrayList<>();
+        for (int cell = 0; cell < 9; cell++) {
+            patterns.add(slot(cell, 0) | slot(cell, 1) | slot(cell, 2));
+        }
+        for (int[] line : LINES) {
+            for (int size = 0; size < 3; size++) {
+                patterns.add(slot(line[0], size) | slot(line[1], size) | slot(line[2], size));
+            }
+            patterns.add(slot(line[0], 0) | slot(line[1], 1) | slot(line[2], 2));
+            patterns.add(slot(line[0], 2) | slot(line[1], 1) | slot(line[2], 0));
+        }
+        PATTERNS = patterns.stream().mapToInt(Integer::intValue).toArray();
+
+        for (int code = 0; code < Move.MAX_CODES; code++) {
+            int bit = 1 << code;
+            THROUGH_SLOT[code] = patterns.stream().mapToInt(Integer::intValue)
+                    .filter(pattern -> (pattern & bit) != 0).toArray();
+        }
+    }
+
+    private WinPatterns() {
+    }
+
+    public static int slot(int cell, int sizeIndex) {
+        return 1 << (cell * 3 + sizeIndex);
+    }
+
+    /** Patterns containing the given slot; never modify the returned array. */
+    public static int[] through(int code) {
+        return THROUGH_SLOT[code];
+    }
+
+    public static boolean isWin(int owned) {
+        for (int pattern : PATTERNS) {
+            if ((owned & pattern) == pattern) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether owning {@code code} in addition to {@code owned} completes a pattern. */
+    public static boolean completes(int owned, int code) {
+        int withSlot = owned | 1 << code;
+        for (int pattern : THROUGH_SLOT[code]) {
+            if ((withSlot & pattern) == pattern) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Free slots that would complete a pattern for the owner of {@code owned},
+     * ignoring whether the owner still has a ring of that size.
+     */
+    public static int winningSlots(int owned, int occupied) {
+        int result = 0;
+        for (int pattern : PATTERNS) {
+            int missing = pattern & ~owned;
+            if (missing != 0 && (missing & (missing - 1)) == 0 && (missing & occupied) == 0) {
+                result |= missing;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package com.unitbase.game.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link TokenBucket} per key, created on first use. Buckets that have
+ * refilled completely carry no state worth keeping, so {@link #evictFull}
+ * can drop them to keep the map the size of the currently active keys.
+ */
+public class RateLimiter {
+    private final double tokensPerSecond;
+    private final int burst;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(double tokensPerSecond, int burst) {
+        this.tokensPerSecond = tokensPerSecond;
+        this.burst = burst;
+    }
+
+    /** 0 if the key may proceed, otherwise the nanoseconds until it may. */
+    public long tryAcquire(String key, long nowNanos) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(tokensPerSecond, burst, nowNanos));
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    /** Drops the buckets that are full again and returns how many. */
+    public int evictFull(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.unitbase.game.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * The node's token buckets, one per client address and one per game. The request
+ * interceptor charges each request; a batch charges each of its operations the
+ * same way, so it costs what sending them one by one would.
+ */
+@Component
+public class RateLimits {
+    private final RateLimiter clients;
+    private final RateLimiter games;
+
+    public RateLimits(@Value("${ringwars.rate-limit.client.per-second:50}") double clientRate,
+                      @Value("${ringwars.rate-limit.client.burst:100}") int clientBurst,
+                      @Value("${ringwars.rate-limit.game.per-second:200}") double gameRate,
+                      @Value("${ringwars.rate-limit.game.burst:400}") int gameBurst) {
+        this.clients = new RateLimiter(clientRate, clientBurst);
+        this.games = new RateLimiter(gameRate, gameBurst);
+    }
+
+    /** 0 if the client may proceed, otherwise the nanoseconds until it may. */
+    public long tryAcquireClient(String client, long nowNanos) {
+        return clients.tryAcquire(client, nowNanos);
+    }
+
+    /** 0 if the game may be acted on, otherwise the nanoseconds until it may. */
+    public long tryAcquireGame(String gameId, long nowNanos) {
+        return games.tryAcquire(gameId, nowNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${ringwars.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        clients.evictFull(now);
+        games.evictFull(now);
+    }
+}
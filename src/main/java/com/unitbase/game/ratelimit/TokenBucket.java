@@ -0,0 +1,47 @@
+package com.unitbase.game.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket held in a single {@link AtomicLong}: instead of a token count
+ * and a refill time it stores the instant the bucket would be full again, so
+ * refilling is implied by the clock and taking a token is one compare-and-set.
+ * No locks, and nothing to update on a timer.
+ */
+public final class TokenBucket {
+    private final long nanosPerToken;
+    private final long burstNanos;
+    // when the bucket will be full again; at or before now means it is full
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double tokensPerSecond, int burst, long nowNanos) {
+        if (tokensPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.nanosPerToken = Math.max(1, Math.round(1e9 / tokensPerSecond));
+        this.burstNanos = nanosPerToken * burst;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available and returns 0, otherwise returns how many
+     * nanoseconds until one will be.
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - nowNanos < 0 ? nowNanos : current) + nanosPerToken;
+            long debt = next - nowNanos - burstNanos;
+            if (debt > 0) {
+                return debt;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,174 @@
+package com.unitbase.game.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.unitbase.game.model.Cell;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.Player;
+import com.unitbase.game.model.Ring;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * Writes {@link GameState} straight to the generator in the same field order and
+ * shape as the reflective bean serializer, without walking bean properties or
+ * building the intermediate threat map. Field names are pre-encoded once.
+ */
+@JsonComponent
+public class GameStateSerializer extends StdSerializer<GameState> {
+
+    private static final SerializableString GAME_ID = new SerializedString("gameId");
+    private static final SerializableString PLAYERS = new SerializedString("players");
+    private static final SerializableString CURRENT_PLAYER_INDEX = new SerializedString("currentPlayerIndex");
+    private static final SerializableString BOARD = new SerializedString("board");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString WINNER = new SerializedString("winner");
+    private static final SerializableString WINNING_LINE = new SerializedString("winningLine");
+    private static final SerializableString LAST_ACTIVITY = new SerializedString("lastActivity");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString CURRENT_PLAYER = new SerializedString("currentPlayer");
+    private static final SerializableString THREATS = new SerializedString("threats");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString COLOR = new SerializedString("color");
+    private static final SerializableString RINGS = new SerializedString("rings");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString ROW = new SerializedString("row");
+    private static final SerializableString COL = new SerializedString("col");
+
+    public GameStateSerializer() {
+        super(GameState.class);
+    }
+
+    @Override
+    public void serialize(GameState game, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(game);
+        gen.writeFieldName(GAME_ID);
+        gen.writeString(game.getGameId());
+
+        List<Player> players = game.getPlayers();
+        gen.writeFieldName(PLAYERS);
+        gen.writeStartArray(players, players.size());
+        for (int i = 0; i < players.size(); i++) {
+            writePlayer(players.get(i), gen);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(CURRENT_PLAYER_INDEX);
+        gen.writeNumber(game.getCurrentPlayerIndex());
+
+        Cell[][] board = game.getBoard();
+        gen.writeFieldName(BOARD);
+        gen.writeStartArray(board, board.length);
+        for (Cell[] row : board) {
+            gen.writeStartArray(row, row.length);
+            for (Cell cell : row) {
+                writeCell(cell, gen);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(STATUS);
+        writeNullableString(game.getStatus(), gen);
+        gen.writeFieldName(WINNER);
+        writeNullableString(game.getWinner(), gen);
+
+        List<String> winningLine = game.getWinningLine();
+        gen.writeFieldName(WINNING_LINE);
+        if (winningLine == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(winningLine, winningLine.size());
+            for (int i = 0; i < winningLine.size(); i++) {
+                writeNullableString(winningLine.get(i), gen);
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeFieldName(LAST_ACTIVITY);
+        gen.writeNumber(game.getLastActivity());
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(game.getVersion());
+
+        gen.writeFieldName(CURRENT_PLAYER);
+        Player currentPlayer = game.getCurrentPlayer();
+        if (currentPlayer == null) {
+            gen.writeNull();
+        } else {
+            writePlayer(currentPlayer, gen);
+        }
+
+        // Same content as getThreats(), decoded from the slot sets as it is written
+        gen.writeFieldName(THREATS);
+        gen.writeStartObject();
+        for (int i = 0; i < players.size(); i++) {
+            gen.writeFieldName(players.get(i).getColor());
+            gen.writeStartArray();
+            for (int slots = game.threatSlots(i); slots != 0; slots &= slots - 1) {
+                int code = Integer.numberOfTrailingZeros(slots);
+                gen.writeStartObject();
+                gen.writeFieldName(ROW);
+                gen.writeNumber(Move.rowOf(code));
+                gen.writeFieldName(COL);
+                gen.writeNumber(Move.colOf(code));
+                gen.writeFieldName(SIZE);
+                gen.writeString(GameState.SIZES[Move.sizeIndexOf(code)]);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+
+        gen.writeEndObject();
+    }
+
+    private static void writePlayer(Player player, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(NAME);
+        writeNullableString(player.getName(), gen);
+        gen.writeFieldName(COLOR);
+        writeNullableString(player.getColor(), gen);
+        gen.writeFieldName(RINGS);
+        gen.writeStartObject();
+        for (Map.Entry<String, Integer> ring : player.getRings().entrySet()) {
+            gen.writeFieldName(ring.getKey());
+            gen.writeNumber(ring.getValue());
+        }
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private static void writeCell(Cell cell, JsonGenerator gen) throws IOException {
+        Stack<Ring> rings = cell.getRings();
+        gen.writeStartObject();
+        gen.writeFieldName(RINGS);
+        gen.writeStartArray(rings, rings.size());
+        for (int i = 0; i < rings.size(); i++) {
+            Ring ring = rings.get(i);
+            gen.writeStartObject();
+            gen.writeFieldName(SIZE);
+            writeNullableString(ring.getSize(), gen);
+            gen.writeFieldName(COLOR);
+            writeNullableString(ring.getColor(), gen);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeNullableString(String value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.unitbase.game.serialization;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.MoveRequest;
+import com.unitbase.game.model.Player;
+import com.unitbase.game.model.PlayerColor;
+import com.unitbase.game.model.RingSize;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Compact binary encoding of {@link GameState} and move requests, served as
+ * {@value #MEDIA_TYPE_VALUE}. All multi-byte values are big-endian.
+ *
+ * <pre>
+ * offset size  game state
+ *  0     1     format version ({@value #FORMAT_VERSION})
+ *  1     1     bits 0-1 status (0 WAITING, 1 PLAYING, 2 FINISHED), bit 2 current player index,
+ *              bits 3-4 player count, bits 5-7 winner (0 none, else index into COLORS + 1)
+ *  2     4     state version
+ *  6     8     last activity, epoch millis
+ * 14     4     RED slots  (bit = move code, see {@link Move})
+ * 18     4     BLUE slots
+ * 22     3     inventories, 3 bits per player and size: bit (player * 3 + size) * 3
+ * 25     2     winning line, bit = row * 3 + col
+ * 27     4     RED threat slots
+ * 31     4     BLUE threat slots
+ * 35     1+n   game id, length-prefixed UTF-8 (n <= {@value #MAX_STRING_LENGTH}), then the same for each player name
+ *
+ *        size  move request
+ *  0     1     move code
+ *  1     1     player color, index into COLORS
+ * </pre>
+ *
+ * Rings within a cell are decoded in size order; placement order within a cell
+ * does not affect the game.
+ */
+public final class WireFormat {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-ringwars";
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+    public static final int FORMAT_VERSION = 1;
+    public static final int FIXED_LENGTH = 35;
+    public static final int MOVE_LENGTH = 2;
+    public static final int MAX_STRING_LENGTH = 255;
+
+    private WireFormat() {
+    }
+
+    public static byte[] encode(GameState game) {
+        List<Player> players = game.getPlayers();
+        byte[] gameId = game.getGameId().getBytes(StandardCharsets.UTF_8);
+        byte[][] names = new byte[players.size()][];
+        int length = FIXED_LENGTH + 1 + gameId.length;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).getName().getBytes(StandardCharsets.UTF_8);
+            length += 1 + names[i].length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(length);
+        out.put((byte) FORMAT_VERSION);
+        out.put((byte) (statusCode(game.getStatus())
+                | (game.getCurrentPlayerIndex() & 1) << 2
+                | players.size() << 3
+                | winnerCode(game.getWinner()) << 5));
+        out.putInt(game.getVersion());
+        out.putLong(game.getLastActivity());
+        out.putInt(players.size() > 0 ? game.ownedSlots(0) : 0);
+        out.putInt(players.size() > 1 ? game.ownedSlots(1) : 0);
+
+        int inventory = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            for (int s = 0; s < GameState.SIZES.length; s++) {
+                int count = Math.min(player.getRings().getOrDefault(GameState.SIZES[s], 0), 7);
+                inventory |= count << (i * GameState.SIZES.length + s) * 3;
+            }
+        }
+        out.put((byte) (inventory >>> 16));
+        out.putShort((short) inventory);
+
+        out.putShort((short) winningCells(game.getWinningLine()));
+        out.putInt(game.threatSlots(0));
+        out.putInt(game.threatSlots(1));
+
+        putString(out, gameId);
+        for (byte[] name : names) {
+            putString(out, name);
+        }
+        return out.array();
+    }
+
+    /**
+     * Decodes a move request body, or returns {@code null} if it is not a
+     * well-formed move. Coordinates are always in range when non-null.
+     */
+    public static MoveRequest decodeMove(byte[] body) {
+        if (body.length != MOVE_LENGTH) {
+            return null;
+        }
+        int code = body[0] & 0xFF;
+        int color = body[1] & 0xFF;
+        if (code >= Move.MAX_CODES || color >= GameState.COLORS.length) {
+            return null;
+        }
+        return new MoveRequest(Move.rowOf(code), Move.colOf(code),
+                RingSize.values()[Move.sizeIndexOf(code)], PlayerColor.values()[color]);
+    }
+
+    private static int statusCode(String status) {
+        switch (status) {
+            case "WAITING": return 0;
+            case "PLAYING": return 1;
+            case "FINISHED": return 2;
+            default: return 3;
+        }
+    }
+
+    private static int winnerCode(String winner) {
+        if (winner == null) {
+            return 0;
+        }
+        for (int i = 0; i < GameState.COLORS.length; i++) {
+            if (GameState.COLORS[i].equals(winner)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    // Winning line entries are "row,col"
+    private static int winningCells(List<String> winningLine) {
+        if (winningLine == null) {
+            return 0;
+        }
+        int cells = 0;
+        for (int i = 0; i < winningLine.size(); i++) {
+            String cell = winningLine.get(i);
+            cells |= 1 << ((cell.charAt(0) - '0') * GameState.BOARD_SIZE + (cell.charAt(2) - '0'));
+        }
+        return cells;
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        if (value.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("String of " + value.length + " bytes exceeds the one-byte length prefix");
+        }
+        out.put((byte) value.length);
+        out.put(value);
+    }
+}
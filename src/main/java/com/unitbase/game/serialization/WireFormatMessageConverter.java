@@ -0,0 +1,56 @@
+package com.unitbase.game.serialization;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.MoveRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Reads move requests and writes game states in {@link WireFormat} when the
+ * client asks for {@value WireFormat#MEDIA_TYPE_VALUE}. Everything else,
+ * including rejection bodies, stays JSON.
+ */
+public class WireFormatMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public WireFormatMessageConverter() {
+        super(WireFormat.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == MoveRequest.class || GameState.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == MoveRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return GameState.class.isAssignableFrom(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        // One byte more than a move so an oversized body is rejected without reading all of it
+        byte[] body = inputMessage.getBody().readNBytes(WireFormat.MOVE_LENGTH + 1);
+        MoveRequest move = WireFormat.decodeMove(body);
+        if (move == null) {
+            throw new HttpMessageNotReadableException("Malformed binary move", inputMessage);
+        }
+        return move;
+    }
+
+    @Override
+    protected void writeInternal(Object game, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body = WireFormat.encode((GameState) game);
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
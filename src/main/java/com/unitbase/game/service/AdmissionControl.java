@@ -0,0 +1,57 @@
+package com.unitbase.game.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Decides whether the node can take another game. Games are refused once the
+ * live count reaches its budget or the old generation is still more than the
+ * allowed fraction full right after a collection, which (unlike current heap
+ * use) is not inflated by garbage waiting to be collected.
+ */
+@Component
+public class AdmissionControl {
+
+    private final int maxGames;
+    private final double maxHeapRatio;
+    // The heap pool that survivors end up in, or null if the collector does not report one
+    private final MemoryPoolMXBean tenured;
+
+    public AdmissionControl(@Value("${ringwars.admission.max-games:1000000}") int maxGames,
+                            @Value("${ringwars.admission.max-heap-ratio:0.85}") double maxHeapRatio) {
+        this.maxGames = maxGames;
+        this.maxHeapRatio = maxHeapRatio;
+        MemoryPoolMXBean largest = null;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()
+                    && (largest == null || pool.getUsage().getMax() > largest.getUsage().getMax())) {
+                largest = pool;
+            }
+        }
+        this.tenured = largest;
+    }
+
+    /** Admits everything; the default where no budget is configured, such as in unit tests. */
+    public static AdmissionControl unlimited() {
+        return new AdmissionControl(Integer.MAX_VALUE, Double.POSITIVE_INFINITY);
+    }
+
+    public boolean admitGame(int liveGames) {
+        return liveGames < maxGames && heapRatio() < maxHeapRatio;
+    }
+
+    /** Fraction of the tenured pool in use after the last collection, 0 if unknown. */
+    double heapRatio() {
+        if (tenured == null || maxHeapRatio == Double.POSITIVE_INFINITY) {
+            return 0;
+        }
+        MemoryUsage usage = tenured.getCollectionUsage();
+        long max = usage == null ? -1 : usage.getMax();
+        return max > 0 ? (double) usage.getUsed() / max : 0;
+    }
+}
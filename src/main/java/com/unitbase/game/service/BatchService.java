@@ -0,0 +1,190 @@
+package com.unitbase.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.model.BatchOperation;
+import com.unitbase.game.model.BatchResult;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.MoveOutcome;
+import com.unitbase.game.model.MoveResult;
+import com.unitbase.game.ratelimit.RateLimits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs many game operations from one request. Operations are split into one
+ * lane per game, kept in request order within the lane; lanes run in parallel
+ * on the background executor, with the last one on the calling thread, so a
+ * batch touching one game never leaves the request thread. Each operation is
+ * charged to the client's and its game's rate limits as if it had been sent on
+ * its own; one that finds a bucket empty fails with {@code 429}.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+
+    // Failures are shared constants, like the single-move rejection bodies
+    private static final Map<MoveResult, BatchResult> REJECTIONS = new EnumMap<>(MoveResult.class);
+
+    static {
+        for (MoveResult result : MoveResult.values()) {
+            int status = result == MoveResult.UNKNOWN_GAME ? 404 : 400;
+            REJECTIONS.put(result, BatchResult.error(status, result.name(), result.getMessage()));
+        }
+    }
+
+    private static final BatchResult INVALID_REQUEST =
+            BatchResult.error(400, "INVALID_REQUEST", "Operation is missing fields or out of range");
+    private static final BatchResult INVALID_REFERENCE =
+            BatchResult.error(400, "INVALID_REFERENCE", "The referenced operation did not create a game");
+    private static final BatchResult JOIN_REFUSED =
+            BatchResult.error(400, "JOIN_REFUSED", "The game already has two players");
+    private static final BatchResult AT_CAPACITY =
+            BatchResult.error(503, "AT_CAPACITY", "Node is at capacity");
+    private static final BatchResult FAILED =
+            BatchResult.error(500, "FAILED", "Operation failed");
+    private static final BatchResult RATE_LIMITED =
+            BatchResult.error(429, "RATE_LIMITED", "Too many requests, retry later");
+
+    private final GameService gameService;
+    private final ClusterService cluster;
+    private final RateLimits limits;
+    private final ObjectWriter writer;
+    private final Executor executor;
+    private final int maxOperations;
+
+    public BatchService(GameService gameService, ClusterService cluster, RateLimits limits, ObjectMapper objectMapper,
+                        @Qualifier("applicationTaskExecutor") Executor executor,
+                        @Value("${ringwars.batch.max-operations:1000}") int maxOperations) {
+        this.gameService = gameService;
+        this.cluster = cluster;
+        this.limits = limits;
+        this.writer = objectMapper.writerFor(GameState.class);
+        this.executor = executor;
+        this.maxOperations = maxOperations;
+    }
+
+    public int getMaxOperations() {
+        return maxOperations;
+    }
+
+    /** Results in the same order as the operations, charging {@code client}'s rate limit for each. */
+    public List<BatchResult> execute(List<BatchOperation> operations, String client) {
+        BatchResult[] results = new BatchResult[operations.size()];
+        Map<String, List<Integer>> lanes = new LinkedHashMap<>();
+        long now = System.nanoTime();
+        // the token the request itself took pays for the first operation
+        boolean paid = true;
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            if (operation == null || !operation.isValid()) {
+                results[i] = INVALID_REQUEST;
+                continue;
+            }
+            if (!paid && limits.tryAcquireClient(client, now) != 0) {
+                results[i] = RATE_LIMITED;
+                continue;
+            }
+            paid = false;
+            // a create opens the lane that "$i" references join
+            String lane = operation.op() == BatchOperation.Op.CREATE
+                    ? BatchOperation.REFERENCE_PREFIX + i : operation.gameId();
+            lanes.computeIfAbsent(lane, key -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Void>> running = new ArrayList<>(lanes.size());
+        Iterator<List<Integer>> remaining = lanes.values().iterator();
+        while (remaining.hasNext()) {
+            List<Integer> lane = remaining.next();
+            if (remaining.hasNext()) {
+                running.add(CompletableFuture.runAsync(() -> runLane(operations, lane, results), executor));
+            } else {
+                runLane(operations, lane, results);
+            }
+        }
+        // joining publishes the other lanes' writes to the results array
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+        return Arrays.asList(results);
+    }
+
+    private void runLane(List<BatchOperation> operations, List<Integer> lane, BatchResult[] results) {
+        String created = null;
+        for (int i : lane) {
+            BatchOperation operation = operations.get(i);
+            try {
+                if (operation.op() == BatchOperation.Op.CREATE) {
+                    GameState game = gameService.createGame();
+                    if (game == null) {
+                        results[i] = AT_CAPACITY;
+                    } else {
+                        created = game.getGameId();
+                        results[i] = BatchResult.ok(snapshot(game));
+                    }
+                    continue;
+                }
+                String gameId = operation.gameId();
+                if (gameId.startsWith(BatchOperation.REFERENCE_PREFIX)) {
+                    if (created == null) {
+                        results[i] = INVALID_REFERENCE;
+                        continue;
+                    }
+                    gameId = created;
+                } else if (!cluster.owns(gameId)) {
+                    results[i] = BatchResult.misdirected(cluster.ownerOf(gameId));
+                    continue;
+                }
+                if (limits.tryAcquireGame(gameId, System.nanoTime()) != 0) {
+                    results[i] = RATE_LIMITED;
+                    continue;
+                }
+                results[i] = apply(operation, gameId);
+            } catch (Exception e) {
+                log.error("Failed to run batch operation {} on game {}", operation.op(), operation.gameId(), e);
+                results[i] = FAILED;
+            }
+        }
+    }
+
+    private BatchResult apply(BatchOperation operation, String gameId) throws JsonProcessingException {
+        switch (operation.op()) {
+            case JOIN -> {
+                GameState game = gameService.joinGame(gameId, operation.playerName());
+                if (game != null) {
+                    return BatchResult.ok(snapshot(game));
+                }
+                return gameService.getGame(gameId) == null ? REJECTIONS.get(MoveResult.UNKNOWN_GAME) : JOIN_REFUSED;
+            }
+            case MOVE -> {
+                MoveOutcome outcome = gameService.makeMove(gameId, operation.row(), operation.col(),
+                        operation.size().name(), operation.playerColor().name());
+                return outcome.isOk() ? BatchResult.ok(snapshot(outcome.game())) : REJECTIONS.get(outcome.result());
+            }
+            default -> {
+                GameState game = gameService.getGame(gameId);
+                return game != null ? BatchResult.ok(snapshot(game)) : REJECTIONS.get(MoveResult.UNKNOWN_GAME);
+            }
+        }
+    }
+
+    // Serialized now, since a later operation in the lane changes the same game before the response is written
+    private RawValue snapshot(GameState game) throws JsonProcessingException {
+        return new RawValue(writer.writeValueAsString(game));
+    }
+}
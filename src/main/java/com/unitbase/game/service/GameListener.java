@@ -0,0 +1,13 @@
+package com.unitbase.game.service;
+
+import com.unitbase.game.model.GameState;
+
+/**
+ * Notified by {@link GameService} on the thread that made a change, so
+ * implementations must return quickly and hand any real work off.
+ */
+public interface GameListener {
+
+    /** A player joined or a move was accepted. */
+    void gameChanged(GameState game);
+}
@@ -1,42 +1,290 @@
 package com.unitbase.game.service;
 
+import com.unitbase.game.metrics.GameMetrics;
 import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.GameSummary;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.MoveOutcome;
+import com.unitbase.game.model.MoveResult;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 @Service
 public class GameService {
+    // Listing order: stable across calls and map resizes, and cheap to compare since String caches its hash
+    public static final Comparator<String> LISTING_ORDER =
+            Comparator.comparingInt(String::hashCode).thenComparing(Comparator.naturalOrder());
+
     private Map<String, GameState> games = new ConcurrentHashMap<>();
+    // Ids of the games above in LISTING_ORDER, so a listing page resumes at its cursor instead of rescanning
+    private final NavigableSet<String> listing = new ConcurrentSkipListSet<>(LISTING_ORDER);
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+    // Player name -> ids of that player's unfinished games
+    private final Map<String, Set<String>> gamesByPlayer = new ConcurrentHashMap<>();
+
+    @Autowired
+    private GameMetrics metrics;
+
+    /** Ownership of a node that is leaving its cluster: it creates no games. */
+    public static final Predicate<String> OWNS_NOTHING = gameId -> false;
+    // Ids drawn looking for one this node owns; even a node owning 1/100 of the ring fails only ~3e-5 of the time
+    static final int MAX_ID_DRAWS = 1024;
+
+    // Which game ids this node may hold; only narrowed when running as part of a cluster
+    private volatile Predicate<String> ownership = gameId -> true;
 
+    // Replaced by the configured budget when running in Spring
+    @Autowired
+    private AdmissionControl admissionControl = AdmissionControl.unlimited();
+
+    /**
+     * A new game, or {@code null} if the node is at its game or heap budget or owns no
+     * ids it could give the game (it is leaving its cluster).
+     */
     public GameState createGame() {
-        GameState game = new GameState();
+        long start = System.nanoTime();
+        String gameId = admissionControl.admitGame(games.size()) ? drawOwnedId() : null;
+        if (gameId == null) {
+            metrics.gameRejected();
+            metrics.recordOperation("create", start);
+            return null;
+        }
+        GameState game = new GameState(gameId);
         games.put(game.getGameId(), game);
+        listing.add(gameId);
+        metrics.gameCreated(game);
+        metrics.recordOperation("create", start);
         return game;
     }
 
+    // ids are drawn until one lands on this node, so a new game never has to move
+    private String drawOwnedId() {
+        Predicate<String> owned = ownership;
+        if (owned == OWNS_NOTHING) {
+            return null;
+        }
+        for (int draw = 0; draw < MAX_ID_DRAWS; draw++) {
+            String gameId = UUID.randomUUID().toString();
+            if (owned.test(gameId)) {
+                return gameId;
+            }
+        }
+        return null;
+    }
+
     public GameState getGame(String gameId) {
-        return games.get(gameId);
+        long start = System.nanoTime();
+        GameState game = games.get(gameId);
+        metrics.recordOperation("get", start);
+        return game;
     }
 
     public GameState joinGame(String gameId, String playerName) {
-        GameState game = games.get(gameId);
-        if (game != null && game.addPlayer(playerName)) {
-            return game;
+        long start = System.nanoTime();
+        try {
+            GameState game = games.get(gameId);
+            if (game != null) {
+                String status = game.getStatus();
+                if (game.addPlayer(playerName)) {
+                    indexPlayer(playerName, game);
+                    metrics.statusChanged(status, game.getStatus());
+                    fireChanged(game);
+                    return game;
+                }
+            }
+            return null;
+        } finally {
+            metrics.recordOperation("join", start);
+        }
+    }
+
+    /** Applies a move; an accepted outcome carries the game it changed. */
+    public MoveOutcome makeMove(String gameId, int row, int col, String size, String playerColor) {
+        long start = System.nanoTime();
+        try {
+            GameState game = games.get(gameId);
+            MoveResult result = game == null ? MoveResult.UNKNOWN_GAME : game.tryMove(row, col, size, playerColor);
+            if (!result.isOk()) {
+                metrics.moveRejected(result);
+                return MoveOutcome.rejected(result);
+            }
+            if ("FINISHED".equals(game.getStatus())) {
+                unindexPlayers(game);
+                metrics.statusChanged("PLAYING", "FINISHED");
+                metrics.gameFinished(game);
+            }
+            fireChanged(game);
+            return MoveOutcome.accepted(game);
+        } finally {
+            metrics.recordOperation("move", start);
+        }
+    }
+
+    /**
+     * Up to {@code limit} games after {@code cursor} (a game id, or {@code null} to start)
+     * in {@link #LISTING_ORDER}, optionally only those with the given status and idle for at
+     * least {@code minIdleMillis}. The sorted id index is walked from the cursor with its weakly
+     * consistent iterator, so writers are never blocked and a page costs O(log games) plus the
+     * ids it has to skip over for the filters, rather than a scan of every game.
+     */
+    public List<GameState> listGames(String status, long minIdleMillis, String cursor, int limit, long now) {
+        List<GameState> page = new ArrayList<>(Math.min(limit, 1024));
+        for (String gameId : cursor == null ? listing : listing.tailSet(cursor, false)) {
+            GameState game = games.get(gameId);
+            if (game == null
+                    || (status != null && !status.equals(game.getStatus()))
+                    || now - game.getLastActivity() < minIdleMillis) {
+                continue;
+            }
+            page.add(game);
+            if (page.size() == limit) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    /** Summaries of every unfinished game the player has joined; empty if there are none. */
+    public List<GameSummary> getPlayerGames(String playerName) {
+        Set<String> gameIds = gamesByPlayer.get(playerName);
+        if (gameIds == null) {
+            return List.of();
+        }
+        List<GameSummary> summaries = new ArrayList<>(gameIds.size());
+        for (String gameId : gameIds) {
+            GameState game = games.get(gameId);
+            if (game != null) {
+                summaries.add(GameSummary.of(game, playerName));
+            }
+        }
+        return summaries;
+    }
+
+    private void indexPlayer(String playerName, GameState game) {
+        gamesByPlayer.compute(playerName, (name, ids) -> {
+            Set<String> updated = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            updated.add(game.getGameId());
+            return updated;
+        });
+        // Removal unindexes after taking the game out of the map, so if it went away before
+        // this entry was added nobody else will clear it; if it goes away later, removal will
+        if (games.get(game.getGameId()) != game) {
+            unindexPlayer(playerName, game);
         }
-        return null;
     }
 
-    public GameState makeMove(String gameId, int row, int col, String size, String playerColor) {
+    private void unlist(String gameId) {
+        listing.remove(gameId);
+        // the id may have been adopted again between the map removal and this one
+        if (games.containsKey(gameId)) {
+            listing.add(gameId);
+        }
+    }
+
+    private void unindexPlayers(GameState game) {
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            unindexPlayer(game.getPlayers().get(i).getName(), game);
+        }
+    }
+
+    private void unindexPlayer(String playerName, GameState game) {
+        gamesByPlayer.computeIfPresent(playerName, (name, ids) -> {
+            ids.remove(game.getGameId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    private void fireChanged(GameState game) {
+        for (GameListener listener : listeners) {
+            listener.gameChanged(game);
+        }
+    }
+
+    public List<Move> getLegalMoves(String gameId) {
         GameState game = games.get(gameId);
-        if (game != null && game.makeMove(row, col, size, playerColor)) {
-            return game;
+        if (game == null) {
+            return null;
         }
-        return null;
+        int[] codes = new int[Move.MAX_CODES];
+        int count = game.legalMoves(codes);
+        List<Move> moves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            moves.add(Move.decode(codes[i]));
+        }
+        return moves;
+    }
+
+    public void setOwnership(Predicate<String> ownership) {
+        this.ownership = ownership;
+    }
+
+    /** Games matching the filter, found by walking the map in place. */
+    public List<GameState> findGames(Predicate<GameState> filter) {
+        List<GameState> found = new ArrayList<>();
+        for (GameState game : games.values()) {
+            if (filter.test(game)) {
+                found.add(game);
+            }
+        }
+        return found;
+    }
+
+    /** Takes over a game built elsewhere; {@code false} if a game with its id is already here. */
+    public boolean adoptGame(GameState game) {
+        if (games.putIfAbsent(game.getGameId(), game) != null) {
+            return false;
+        }
+        listing.add(game.getGameId());
+        if (!"FINISHED".equals(game.getStatus())) {
+            for (int i = 0; i < game.getPlayers().size(); i++) {
+                indexPlayer(game.getPlayers().get(i).getName(), game);
+            }
+        }
+        metrics.gameCreated(game);
+        return true;
     }
 
     public void removeGame(String gameId) {
-        games.remove(gameId);
+        GameState game = games.remove(gameId);
+        if (game != null) {
+            unlist(gameId);
+            unindexPlayers(game);
+            metrics.gameRemoved(game);
+        }
+    }
+
+    /**
+     * Removes every game with no activity since {@code now - maxIdleMillis}
+     * and returns how many were removed.
+     */
+    public int evictIdleGames(long maxIdleMillis, long now) {
+        long cutoff = now - maxIdleMillis;
+        int evicted = 0;
+        for (Map.Entry<String, GameState> entry : games.entrySet()) {
+            GameState game = entry.getValue();
+            if (game.getLastActivity() < cutoff && games.remove(entry.getKey(), game)) {
+                unlist(entry.getKey());
+                unindexPlayers(game);
+                metrics.gameRemoved(game);
+                evicted++;
+            }
+        }
+        return evicted;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package com.unitbase.game.service;
+
+import com.unitbase.game.cache.ConcurrentLruCache;
+import com.unitbase.game.engine.OpeningBook;
+import com.unitbase.game.engine.Position;
+import com.unitbase.game.engine.Search;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Hint;
+import com.unitbase.game.model.Move;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes hints for the player to move, taking the recommended move from the
+ * opening book when the position is in it. Results are cached by canonical
+ * position, so all eight rotations and reflections of a position share one
+ * entry; cached moves are stored in the canonical frame and mapped back onto
+ * the requesting game's board on the way out.
+ */
+@Service
+public class HintService implements MeterBinder {
+    // key, entry and LinkedHashMap node overhead of one cached analysis
+    private static final int ENTRY_BYTES = 112;
+
+    private final GameService gameService;
+    private final OpeningBook openingBook;
+    private final int searchDepth;
+    private final ConcurrentLruCache<Long, Analysis> cache;
+
+    public HintService(GameService gameService, OpeningBook openingBook,
+                       @Value("${ringwars.hint.search-depth:4}") int searchDepth,
+                       @Value("${ringwars.hint.cache.max-bytes:16777216}") long maxCacheBytes) {
+        this.gameService = gameService;
+        this.openingBook = openingBook;
+        this.searchDepth = searchDepth;
+        this.cache = new ConcurrentLruCache<>(maxCacheBytes,
+                Runtime.getRuntime().availableProcessors() * 4, analysis -> ENTRY_BYTES);
+    }
+
+    public Hint getHint(String gameId) {
+        GameState game = gameService.getGame(gameId);
+        if (game == null) {
+            return null;
+        }
+        if (!"PLAYING".equals(game.getStatus())) {
+            return Hint.NONE;
+        }
+
+        long position = Position.of(game);
+        int symmetry = Position.canonicalSymmetry(position);
+        Analysis analysis = cache.get(Position.transform(position, symmetry), this::analyze);
+
+        int back = Position.inverse(symmetry);
+        return new Hint(
+                toMoves(Position.transformSlots(back, analysis.wins())),
+                toMoves(Position.transformSlots(back, analysis.blocks())),
+                analysis.recommended() < 0 ? null
+                        : Move.decode(Position.transformCode(back, analysis.recommended())));
+    }
+
+    Analysis analyze(long position) {
+        int side = Position.sideToMove(position);
+        int wins = Position.winningMoves(position, side);
+        int blocks = Position.winningMoves(position, 1 - side) & Position.legalMoves(position, side);
+        int recommended = wins != 0 ? Integer.numberOfTrailingZeros(wins) : openingBook.bestMove(position);
+        if (recommended < 0) {
+            recommended = Search.bestMove(position, searchDepth);
+        }
+        return new Analysis(wins, blocks, recommended);
+    }
+
+    public ConcurrentLruCache<Long, Analysis> getCache() { return cache; }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ringwars.hint.cache.requests", cache, ConcurrentLruCache::getHitCount)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("ringwars.hint.cache.requests", cache, ConcurrentLruCache::getMissCount)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("ringwars.hint.cache.evictions", cache, ConcurrentLruCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("ringwars.hint.cache.hit.ratio", cache, ConcurrentLruCache::getHitRatio)
+                .register(registry);
+        Gauge.builder("ringwars.hint.cache.size", cache, ConcurrentLruCache::size)
+                .register(registry);
+        Gauge.builder("ringwars.hint.cache.weight", cache, ConcurrentLruCache::weight)
+                .baseUnit("bytes").register(registry);
+    }
+
+    private static List<Move> toMoves(int codes) {
+        List<Move> moves = new ArrayList<>(Integer.bitCount(codes));
+        for (; codes != 0; codes &= codes - 1) {
+            moves.add(Move.decode(Integer.numberOfTrailingZeros(codes)));
+        }
+        return moves;
+    }
+
+    /** Hint for a canonical position, as move code sets in the canonical frame. */
+    public record Analysis(int wins, int blocks, int recommended) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.unitbase.game.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically drops abandoned games. Runs on the Spring task scheduler, which
+ * uses virtual threads when {@code spring.threads.virtual.enabled} is set.
+ */
+@Component
+public class IdleGameEvictor {
+
+    private static final Logger log = LoggerFactory.getLogger(IdleGameEvictor.class);
+
+    @Autowired
+    private GameService gameService;
+
+    @Value("${ringwars.eviction.max-idle-ms:1800000}")
+    private long maxIdleMillis;
+
+    @Scheduled(fixedDelayString = "${ringwars.eviction.interval-ms:60000}",
+            initialDelayString = "${ringwars.eviction.interval-ms:60000}")
+    public void evictIdleGames() {
+        int evicted = gameService.evictIdleGames(maxIdleMillis, System.currentTimeMillis());
+        if (evicted > 0) {
+            log.info("Evicted {} idle games", evicted);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.unitbase.game.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Players ordered by rating, then name. The order is kept in a treap whose nodes
+ * count their subtree, so the rank of a player and the start of a page are found
+ * in O(log n) however many players share a rating (every new player starts on the
+ * same one). Updates copy the path they change and publish a new root, so readers
+ * work on a consistent snapshot without locking and never see a half-applied move.
+ */
+public class Leaderboard {
+
+    /** One player's current figures; replaced, never changed, on each update. */
+    public record Standing(String playerName, double rating, int games, int wins, int draws, int losses) {
+        long score() {
+            return Math.max(0, Math.min(MAX_SCORE, Math.round(rating * SCORE_SCALE)));
+        }
+    }
+
+    static final int SCORE_SCALE = 100;
+    static final int MAX_SCORE = 4000 * SCORE_SCALE;
+
+    // highest rating (to a hundredth of a point) first, then by name
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingLong((Standing s) -> -s.score())
+            .thenComparing(Standing::playerName);
+
+    private record Node(Standing standing, int priority, Node left, Node right, int size) {
+        Node with(Node left, Node right) {
+            return new Node(standing, priority, left, right, Leaderboard.size(left) + Leaderboard.size(right) + 1);
+        }
+    }
+
+    private final Map<String, Standing> byName = new ConcurrentHashMap<>();
+    private volatile Node root;
+
+    public Standing get(String playerName) {
+        return byName.get(playerName);
+    }
+
+    public int size() {
+        return byName.size();
+    }
+
+    public synchronized void put(Standing standing) {
+        Standing previous = byName.put(standing.playerName(), standing);
+        Node updated = previous != null ? remove(root, previous) : root;
+        Node[] split = split(updated, standing);
+        Node single = new Node(standing, ThreadLocalRandom.current().nextInt(), null, null, 1);
+        root = merge(merge(split[0], single), split[1]);
+    }
+
+    /** 1-based rank of the player, or 0 if they are not on the board. */
+    public long rank(String playerName) {
+        Standing standing = byName.get(playerName);
+        if (standing == null) {
+            return 0;
+        }
+        long above = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = ORDER.compare(standing, node.standing());
+            if (cmp < 0) {
+                node = node.left();
+            } else if (cmp > 0) {
+                above += size(node.left()) + 1;
+                node = node.right();
+            } else {
+                return above + size(node.left()) + 1;
+            }
+        }
+        // replaced between the two reads; its rank is where it would sort
+        return above + 1;
+    }
+
+    /** Up to {@code limit} standings starting at 0-based position {@code offset}. */
+    public List<Standing> page(long offset, int limit) {
+        Node snapshot = root;
+        List<Standing> page = new ArrayList<>((int) Math.max(0, Math.min(limit, size(snapshot) - offset)));
+        collect(snapshot, offset, limit, page);
+        return page;
+    }
+
+    // In-order walk from position 'offset' of this subtree, skipping whole subtrees by their size
+    private static void collect(Node node, long offset, int limit, List<Standing> page) {
+        if (node == null || page.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left());
+        if (offset < leftSize) {
+            collect(node.left(), offset, limit, page);
+        }
+        if (offset <= leftSize && page.size() < limit) {
+            page.add(node.standing());
+        }
+        collect(node.right(), Math.max(0, offset - leftSize - 1), limit, page);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size();
+    }
+
+    // Splits into the entries before 'key' and those from it on, copying only the path walked
+    private static Node[] split(Node node, Standing key) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (ORDER.compare(node.standing(), key) < 0) {
+            Node[] right = split(node.right(), key);
+            return new Node[]{node.with(node.left(), right[0]), right[1]};
+        }
+        Node[] left = split(node.left(), key);
+        return new Node[]{left[0], node.with(left[1], node.right())};
+    }
+
+    // Joins two treaps where every entry of 'left' sorts before every entry of 'right'
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority() > right.priority()) {
+            return left.with(left.left(), merge(left.right(), right));
+        }
+        return right.with(merge(left, right.left()), right.right());
+    }
+
+    private static Node remove(Node node, Standing key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = ORDER.compare(key, node.standing());
+        if (cmp < 0) {
+            return node.with(remove(node.left(), key), node.right());
+        }
+        if (cmp > 0) {
+            return node.with(node.left(), remove(node.right(), key));
+        }
+        return merge(node.left(), node.right());
+    }
+}
@@ -0,0 +1,122 @@
+package com.unitbase.game.service;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.PlayerRating;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Elo ratings for everyone who finishes a game. The move that finishes a game
+ * only queues its result; results are applied in batches on the background
+ * executor by one drain at a time, which makes it the leaderboard's single writer.
+ */
+@Service
+public class RatingService implements GameListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingService.class);
+    public static final double INITIAL_RATING = 1500;
+
+    private final Executor executor;
+    private final double kFactor;
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final Queue<Result> results = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // score is RED's result: 1 for a win, 0.5 for a draw, 0 for a loss
+    private record Result(String red, String blue, double score) {}
+
+    public RatingService(GameService gameService,
+                         @Qualifier("applicationTaskExecutor") Executor executor,
+                         @Value("${ringwars.ratings.k-factor:32}") double kFactor) {
+        this.executor = executor;
+        this.kFactor = kFactor;
+        gameService.addListener(this);
+    }
+
+    @Override
+    public void gameChanged(GameState game) {
+        if (!"FINISHED".equals(game.getStatus())) {
+            return;
+        }
+        String red = game.getPlayers().get(0).getName();
+        String blue = game.getPlayers().get(1).getName();
+        if (red.equals(blue)) {
+            return;
+        }
+        String winner = game.getWinner();
+        results.add(new Result(red, blue, winner == null ? 0.5 : "RED".equals(winner) ? 1 : 0));
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Result result;
+            while ((result = results.poll()) != null) {
+                apply(result);
+            }
+        } catch (Exception e) {
+            log.error("Failed to apply rating updates", e);
+        } finally {
+            scheduled.set(false);
+            // a result queued after the last poll but before the flag was cleared
+            if (!results.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    private void apply(Result result) {
+        Leaderboard.Standing red = standing(result.red());
+        Leaderboard.Standing blue = standing(result.blue());
+        double expected = 1 / (1 + Math.pow(10, (blue.rating() - red.rating()) / 400));
+        double change = kFactor * (result.score() - expected);
+        leaderboard.put(updated(red, change, result.score()));
+        leaderboard.put(updated(blue, -change, 1 - result.score()));
+    }
+
+    private Leaderboard.Standing standing(String playerName) {
+        Leaderboard.Standing standing = leaderboard.get(playerName);
+        return standing != null ? standing : new Leaderboard.Standing(playerName, INITIAL_RATING, 0, 0, 0, 0);
+    }
+
+    private static Leaderboard.Standing updated(Leaderboard.Standing standing, double change, double score) {
+        return new Leaderboard.Standing(standing.playerName(), standing.rating() + change,
+                standing.games() + 1,
+                standing.wins() + (score == 1 ? 1 : 0),
+                standing.draws() + (score == 0.5 ? 1 : 0),
+                standing.losses() + (score == 0 ? 1 : 0));
+    }
+
+    /** Up to {@code limit} players from 0-based position {@code offset}, best first. */
+    public List<PlayerRating> getLeaderboard(long offset, int limit) {
+        List<Leaderboard.Standing> page = leaderboard.page(offset, limit);
+        List<PlayerRating> ratings = new ArrayList<>(page.size());
+        for (int i = 0; i < page.size(); i++) {
+            ratings.add(toRating(offset + i + 1, page.get(i)));
+        }
+        return ratings;
+    }
+
+    /** The player's rating and rank, or {@code null} if they have not finished a game yet. */
+    public PlayerRating getRating(String playerName) {
+        Leaderboard.Standing standing = leaderboard.get(playerName);
+        return standing == null ? null : toRating(leaderboard.rank(playerName), standing);
+    }
+
+    private static PlayerRating toRating(long rank, Leaderboard.Standing standing) {
+        return new PlayerRating(rank, standing.playerName(), standing.rating(),
+                standing.games(), standing.wins(), standing.draws(), standing.losses());
+    }
+}
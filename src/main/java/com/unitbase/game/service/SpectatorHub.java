@@ -0,0 +1,225 @@
+package com.unitbase.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.unitbase.game.model.GameState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Server-sent event fan-out for spectators. A change to a watched game is encoded
+ * into a frame on the thread that made it, while that thread still owns the state,
+ * and, if no broadcast is pending, one is scheduled on the background executor, so
+ * the player's request never waits on spectator connections. A broadcast offers the
+ * newest frame to every subscriber; executor threads never read the live game.
+ * Each subscriber holds at most one frame in flight and one pending; a newer
+ * frame replaces the pending one, so slow consumers skip straight to the latest
+ * version instead of building a backlog.
+ */
+@Service
+public class SpectatorHub implements GameListener, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SpectatorHub.class);
+
+    private final ObjectWriter writer;
+    private final Executor executor;
+    private final long timeoutMillis;
+    private final int maxPerGame;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger spectators = new AtomicInteger();
+
+    public SpectatorHub(GameService gameService, ObjectMapper objectMapper,
+                        @Qualifier("applicationTaskExecutor") Executor executor,
+                        @Value("${ringwars.spectator.timeout-ms:1800000}") long timeoutMillis,
+                        @Value("${ringwars.spectator.max-per-game:20000}") int maxPerGame) {
+        this.writer = objectMapper.writerFor(GameState.class);
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxPerGame = maxPerGame;
+        gameService.addListener(this);
+    }
+
+    /**
+     * Subscribes to a game's state stream, starting with its current state.
+     * Returns {@code null} when the game already has the maximum number of spectators.
+     */
+    public ResponseBodyEmitter subscribe(GameState game) {
+        return subscribe(game, new ResponseBodyEmitter(timeoutMillis));
+    }
+
+    ResponseBodyEmitter subscribe(GameState game, ResponseBodyEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        // joining and leaving a channel happen under the map's lock for that game, so a
+        // channel is never dropped while someone is joining it
+        Channel channel = channels.compute(game.getGameId(), (id, existing) -> {
+            Channel joined = existing != null ? existing : new Channel(id);
+            if (joined.subscribers.size() < maxPerGame) {
+                joined.subscribers.add(subscriber);
+            }
+            return joined;
+        });
+        if (!channel.subscribers.contains(subscriber)) {
+            return null;
+        }
+        spectators.incrementAndGet();
+        Runnable remove = () -> unsubscribe(channel, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        Frame latest = channel.latest.get();
+        if (latest == null || latest.version() != game.getVersion()) {
+            gameChanged(game);
+        } else {
+            offer(subscriber, latest, channel);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void gameChanged(GameState game) {
+        Channel channel = channels.get(game.getGameId());
+        if (channel == null) {
+            return;
+        }
+        Frame frame;
+        try {
+            frame = serialize(game);
+        } catch (IOException e) {
+            log.error("Failed to encode game {} for spectators", game.getGameId(), e);
+            return;
+        }
+        channel.latest.accumulateAndGet(frame, (current, next) ->
+                current == null || next.version() > current.version() ? next : current);
+        channel.dirty.set(true);
+        if (channel.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> broadcast(channel));
+        }
+    }
+
+    private void broadcast(Channel channel) {
+        try {
+            while (channel.dirty.getAndSet(false)) {
+                Frame frame = channel.latest.get();
+                for (Subscriber subscriber : channel.subscribers) {
+                    offer(subscriber, frame, channel);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to broadcast game {}", channel.gameId, e);
+        } finally {
+            channel.scheduled.set(false);
+            // a change that arrived after the last check but before the flag was cleared
+            if (channel.dirty.get() && channel.scheduled.compareAndSet(false, true)) {
+                executor.execute(() -> broadcast(channel));
+            }
+        }
+    }
+
+    private Frame serialize(GameState game) throws IOException {
+        int version = game.getVersion();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+        out.write(("id:" + version + "\nevent:state\ndata:").getBytes(StandardCharsets.UTF_8));
+        writer.writeValue(out, game);
+        out.write('\n');
+        out.write('\n');
+        return new Frame(version, out.toByteArray());
+    }
+
+    private void offer(Subscriber subscriber, Frame frame, Channel channel) {
+        subscriber.pending.set(frame);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber, channel));
+        }
+    }
+
+    private void drain(Subscriber subscriber, Channel channel) {
+        try {
+            Frame frame;
+            while ((frame = subscriber.pending.getAndSet(null)) != null) {
+                if (frame.version() > subscriber.sentVersion) {
+                    subscriber.emitter.send(frame.bytes(), MediaType.TEXT_EVENT_STREAM);
+                    subscriber.sentVersion = frame.version();
+                }
+            }
+        } catch (Exception e) {
+            // the client went away; completing triggers the removal callback
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(channel, subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.pending.get() != null && subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber, channel));
+        }
+    }
+
+    private void unsubscribe(Channel channel, Subscriber subscriber) {
+        channels.computeIfPresent(channel.gameId, (id, existing) -> {
+            if (existing.subscribers.remove(subscriber)) {
+                spectators.decrementAndGet();
+            }
+            return existing.subscribers.isEmpty() ? null : existing;
+        });
+    }
+
+    public int getSpectatorCount(String gameId) {
+        Channel channel = channels.get(gameId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ringwars.spectators", spectators, AtomicInteger::get)
+                .description("Open spectator streams")
+                .register(registry);
+    }
+
+    private static final class Channel {
+        final String gameId;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final AtomicReference<Frame> latest = new AtomicReference<>();
+        final AtomicBoolean dirty = new AtomicBoolean();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Channel(String gameId) {
+            this.gameId = gameId;
+        }
+    }
+
+    private static final class Subscriber {
+        final ResponseBodyEmitter emitter;
+        // bounded buffer: at most one frame waiting behind the one being sent
+        final AtomicReference<Frame> pending = new AtomicReference<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile int sentVersion = -1;
+
+        Subscriber(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /** A fully encoded event, built once per version and sent as-is to every subscriber. */
+    private record Frame(int version, byte[] bytes) {
+    }
+}
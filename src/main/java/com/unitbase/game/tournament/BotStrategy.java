@@ -0,0 +1,22 @@
+package com.unitbase.game.tournament;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+
+import java.util.SplittableRandom;
+
+/**
+ * A bot that picks moves for the current player of a game. Implementations are
+ * shared between tournament worker threads, so they must not keep mutable state;
+ * all randomness has to come from the supplied per-game random source.
+ */
+public interface BotStrategy {
+
+    String getName();
+
+    /**
+     * @return the move to play for the current player, or {@code null} when the
+     * player has no legal move left
+     */
+    Move chooseMove(GameState game, SplittableRandom random);
+}
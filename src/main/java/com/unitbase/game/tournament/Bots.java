@@ -0,0 +1,16 @@
+package com.unitbase.game.tournament;
+
+import java.util.SplittableRandom;
+
+final class Bots {
+
+    private Bots() {
+    }
+
+    static int pick(int mask, SplittableRandom random) {
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+}
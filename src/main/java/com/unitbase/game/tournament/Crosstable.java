@@ -0,0 +1,91 @@
+package com.unitbase.game.tournament;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Head-to-head results, updated concurrently by tournament workers as chunks of
+ * games complete. Totals only ever grow by addition, so the final table does not
+ * depend on the order in which workers merge.
+ */
+public class Crosstable {
+    private final List<String> names;
+    private final int size;
+    // wins[a * size + b] counts games a won against b
+    private final AtomicLongArray wins;
+    private final AtomicLongArray draws;
+    private final AtomicLong gamesPlayed = new AtomicLong();
+
+    public Crosstable(List<String> names) {
+        this.names = List.copyOf(names);
+        this.size = names.size();
+        this.wins = new AtomicLongArray(size * size);
+        this.draws = new AtomicLongArray(size * size);
+    }
+
+    /** Accumulates a worker's local counts, laid out like {@link #newLocalCounts()}. */
+    void merge(long[] local) {
+        int cells = size * size;
+        long games = 0;
+        for (int i = 0; i < cells; i++) {
+            long w = local[i];
+            long d = local[cells + i];
+            if (w != 0) {
+                wins.addAndGet(i, w);
+                games += w;
+            }
+            if (d != 0) {
+                draws.addAndGet(i, d);
+                // draws are recorded from both sides, count each game once
+                if (i / size < i % size) {
+                    games += d;
+                }
+            }
+        }
+        gamesPlayed.addAndGet(games);
+    }
+
+    long[] newLocalCounts() {
+        return new long[2 * size * size];
+    }
+
+    void record(long[] local, int a, int b, int winner) {
+        if (winner == a) {
+            local[a * size + b]++;
+        } else if (winner == b) {
+            local[b * size + a]++;
+        } else {
+            int cells = size * size;
+            local[cells + a * size + b]++;
+            local[cells + b * size + a]++;
+        }
+    }
+
+    public List<String> getNames() { return names; }
+    public int size() { return size; }
+    public long getGamesPlayed() { return gamesPlayed.get(); }
+    public long getWins(int a, int b) { return wins.get(a * size + b); }
+    public long getDraws(int a, int b) { return draws.get(a * size + b); }
+
+    public long getGames(int a, int b) {
+        return getWins(a, b) + getWins(b, a) + getDraws(a, b);
+    }
+
+    /** Points scored by {@code a}: one per win, a half per draw. */
+    public double getScore(int a) {
+        double score = 0;
+        for (int b = 0; b < size; b++) {
+            score += getWins(a, b) + getDraws(a, b) / 2.0;
+        }
+        return score;
+    }
+
+    public long getGames(int a) {
+        long games = 0;
+        for (int b = 0; b < size; b++) {
+            games += getGames(a, b);
+        }
+        return games;
+    }
+}
@@ -0,0 +1,64 @@
+package com.unitbase.game.tournament;
+
+/**
+ * Maximum-likelihood Elo ratings from a crosstable. The estimate is recomputed
+ * from the counts on demand, so it can be polled while a tournament is running
+ * and converges to a value that depends only on the final results.
+ */
+public final class EloEstimator {
+    public static final double BASE_RATING = 1500.0;
+    private static final double SCALE = 400.0 / Math.log(10);
+    private static final int ITERATIONS = 100;
+
+    private EloEstimator() {
+    }
+
+    public static double[] estimate(Crosstable table) {
+        int n = table.size();
+        double[] ratings = new double[n];
+        double[][] games = new double[n][n];
+        double[] scores = new double[n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                if (a == b) {
+                    continue;
+                }
+                // one virtual draw per pairing keeps perfect scores finite
+                games[a][b] = table.getGames(a, b) + 1;
+                scores[a] += table.getWins(a, b) + (table.getDraws(a, b) + 1) / 2.0;
+            }
+        }
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            for (int a = 0; a < n; a++) {
+                double expected = 0;
+                double variance = 0;
+                for (int b = 0; b < n; b++) {
+                    if (a == b || games[a][b] == 0) {
+                        continue;
+                    }
+                    double p = expectedScore(ratings[a], ratings[b]);
+                    expected += games[a][b] * p;
+                    variance += games[a][b] * p * (1 - p);
+                }
+                if (variance > 0) {
+                    ratings[a] += SCALE * (scores[a] - expected) / variance;
+                }
+            }
+        }
+
+        double mean = 0;
+        for (double rating : ratings) {
+            mean += rating;
+        }
+        mean /= Math.max(1, n);
+        for (int a = 0; a < n; a++) {
+            ratings[a] = ratings[a] - mean + BASE_RATING;
+        }
+        return ratings;
+    }
+
+    public static double expectedScore(double rating, double opponent) {
+        return 1.0 / (1.0 + Math.pow(10, (opponent - rating) / 400.0));
+    }
+}
@@ -0,0 +1,5 @@
+package com.unitbase.game.tournament;
+
+public enum GameOutcome {
+    RED_WINS, BLUE_WINS, DRAW
+}
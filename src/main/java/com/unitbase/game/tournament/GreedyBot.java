@@ -0,0 +1,56 @@
+package com.unitbase.game.tournament;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.WinPatterns;
+
+import java.util.SplittableRandom;
+
+/**
+ * Takes an immediate win when one exists, otherwise blocks the opponent's
+ * immediate win by occupying that slot, otherwise plays randomly.
+ */
+public class GreedyBot implements BotStrategy {
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    @Override
+    public Move chooseMove(GameState game, SplittableRandom random) {
+        int moves = game.legalMoveMask();
+        if (moves == 0) {
+            return null;
+        }
+
+        int me = game.getCurrentPlayerIndex();
+        int win = firstWinning(game, moves, me);
+        if (win >= 0) {
+            return Move.decode(win);
+        }
+
+        for (int other = 0; other < game.getPlayers().size(); other++) {
+            if (other != me) {
+                int block = firstWinning(game, moves, other);
+                if (block >= 0) {
+                    return Move.decode(block);
+                }
+            }
+        }
+
+        return Move.decode(Bots.pick(moves, random));
+    }
+
+    // Checked against the engine's own win patterns, so the bot and the rules cannot disagree
+    private static int firstWinning(GameState game, int moves, int playerIndex) {
+        int owned = game.ownedSlots(playerIndex);
+        for (int mask = moves; mask != 0; mask &= mask - 1) {
+            int code = Integer.numberOfTrailingZeros(mask);
+            if (WinPatterns.completes(owned, code)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+}
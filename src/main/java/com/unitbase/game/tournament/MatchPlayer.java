@@ -0,0 +1,51 @@
+package com.unitbase.game.tournament;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+
+import java.util.SplittableRandom;
+
+public final class MatchPlayer {
+
+    private static final String GAME_ID = "tournament";
+
+    private MatchPlayer() {
+    }
+
+    /**
+     * Plays one game to completion. {@code red} joins first and therefore always
+     * gets RED, matching {@link GameState#addPlayer(String)}.
+     */
+    public static GameOutcome play(BotStrategy red, BotStrategy blue, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameState game = new GameState(GAME_ID);
+        game.addPlayer(red.getName());
+        game.addPlayer(blue.getName());
+        BotStrategy[] bots = {red, blue};
+
+        while ("PLAYING".equals(game.getStatus())) {
+            int index = game.getCurrentPlayerIndex();
+            Move move = bots[index].chooseMove(game, random);
+            if (move == null) {
+                // A player without a valid placement skips their turn; if the
+                // opponent is stuck as well the game is a draw.
+                index = 1 - index;
+                game.setCurrentPlayerIndex(index);
+                move = bots[index].chooseMove(game, random);
+                if (move == null) {
+                    return GameOutcome.DRAW;
+                }
+            }
+
+            String color = game.getPlayers().get(index).getColor();
+            if (!game.makeMove(move.row(), move.col(), move.size(), color)) {
+                throw new IllegalStateException(bots[index].getName() + " chose an illegal move " + move);
+            }
+        }
+
+        if (game.getWinner() == null) {
+            return GameOutcome.DRAW;
+        }
+        return "RED".equals(game.getWinner()) ? GameOutcome.RED_WINS : GameOutcome.BLUE_WINS;
+    }
+}
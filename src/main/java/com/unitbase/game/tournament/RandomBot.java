@@ -0,0 +1,23 @@
+package com.unitbase.game.tournament;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+
+import java.util.SplittableRandom;
+
+public class RandomBot implements BotStrategy {
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public Move chooseMove(GameState game, SplittableRandom random) {
+        int moves = game.legalMoveMask();
+        if (moves == 0) {
+            return null;
+        }
+        return Move.decode(Bots.pick(moves, random));
+    }
+}
@@ -0,0 +1,38 @@
+package com.unitbase.game.tournament;
+
+import com.unitbase.game.engine.OpeningBook;
+import com.unitbase.game.engine.Position;
+import com.unitbase.game.engine.Search;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays from the opening book while the position is in it and falls back to a
+ * fixed-depth search afterwards. Fully deterministic; the random source is unused.
+ */
+public class SearchBot implements BotStrategy {
+    private final int depth;
+    private final OpeningBook book;
+
+    public SearchBot(int depth, OpeningBook book) {
+        this.depth = depth;
+        this.book = book;
+    }
+
+    @Override
+    public String getName() {
+        return "search" + depth;
+    }
+
+    @Override
+    public Move chooseMove(GameState game, SplittableRandom random) {
+        long position = Position.of(game);
+        int move = book.bestMoveFor(position);
+        if (move < 0) {
+            move = Search.bestMove(position, depth);
+        }
+        return move < 0 ? null : Move.decode(move);
+    }
+}
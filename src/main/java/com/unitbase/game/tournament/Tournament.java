@@ -0,0 +1,163 @@
+package com.unitbase.game.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays bots against each other across all cores. Every game gets its own seed
+ * derived from the tournament seed and the game's position in the schedule, so
+ * results are reproducible regardless of thread count or scheduling order.
+ */
+public class Tournament {
+
+    public enum Format { ROUND_ROBIN, SWISS }
+
+    // game pairs handed to a worker at a time; results are merged per chunk
+    private static final int CHUNK_SIZE = 256;
+
+    private final List<BotStrategy> bots;
+    private final TournamentConfig config;
+    private final TournamentListener listener;
+    private final Crosstable crosstable;
+
+    public Tournament(List<BotStrategy> bots, TournamentConfig config, TournamentListener listener) {
+        if (bots.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two bots");
+        }
+        this.bots = List.copyOf(bots);
+        this.config = config;
+        this.listener = listener;
+        this.crosstable = new Crosstable(displayNames(bots));
+    }
+
+    public Crosstable run() {
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            if (config.format() == Format.ROUND_ROBIN) {
+                play(pool, 0, roundRobinPairings());
+            } else {
+                boolean[][] met = new boolean[bots.size()][bots.size()];
+                for (int round = 0; round < config.swissRounds(); round++) {
+                    play(pool, round, swissPairings(met));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return crosstable;
+    }
+
+    public Crosstable getCrosstable() { return crosstable; }
+
+    private void play(ForkJoinPool pool, int round, List<int[]> pairings) {
+        long pairsPerPairing = config.gamesPerPairing();
+        long totalPairs = pairings.size() * pairsPerPairing;
+        int chunks = (int) ((totalPairs + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                long[] local = crosstable.newLocalCounts();
+                long end = Math.min(totalPairs, (long) (chunk + 1) * CHUNK_SIZE);
+                for (long index = (long) chunk * CHUNK_SIZE; index < end; index++) {
+                    int[] pairing = pairings.get((int) (index / pairsPerPairing));
+                    playPair(local, round, index, pairing[0], pairing[1]);
+                }
+                crosstable.merge(local);
+                if (listener != null) {
+                    listener.onProgress(crosstable);
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament game failed", e.getCause());
+        }
+    }
+
+    private void playPair(long[] local, int round, long index, int a, int b) {
+        long base = ((long) round << 40) ^ (index << 1);
+        GameOutcome first = MatchPlayer.play(bots.get(a), bots.get(b), seedFor(base));
+        crosstable.record(local, a, b, winner(first, a, b));
+        GameOutcome second = MatchPlayer.play(bots.get(b), bots.get(a), seedFor(base | 1));
+        crosstable.record(local, a, b, winner(second, b, a));
+    }
+
+    private static int winner(GameOutcome outcome, int red, int blue) {
+        return switch (outcome) {
+            case RED_WINS -> red;
+            case BLUE_WINS -> blue;
+            case DRAW -> -1;
+        };
+    }
+
+    private long seedFor(long index) {
+        // SplitMix64 finalizer: cheap, stateless and well distributed
+        long z = config.seed() + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private List<int[]> roundRobinPairings() {
+        List<int[]> pairings = new ArrayList<>();
+        for (int a = 0; a < bots.size(); a++) {
+            for (int b = a + 1; b < bots.size(); b++) {
+                pairings.add(new int[]{a, b});
+            }
+        }
+        return pairings;
+    }
+
+    // Pairs neighbours in the current standings, avoiding rematches where possible.
+    // The lowest-ranked unpaired bot sits out when the field is odd.
+    private List<int[]> swissPairings(boolean[][] met) {
+        List<Integer> standings = new ArrayList<>(IntStream.range(0, bots.size()).boxed().toList());
+        standings.sort(Comparator.comparingDouble((Integer bot) -> -crosstable.getScore(bot))
+                .thenComparingInt(bot -> bot));
+
+        List<int[]> pairings = new ArrayList<>();
+        boolean[] paired = new boolean[bots.size()];
+        for (int i = 0; i < standings.size(); i++) {
+            int a = standings.get(i);
+            if (paired[a]) {
+                continue;
+            }
+            int opponent = -1;
+            for (int j = i + 1; j < standings.size(); j++) {
+                int b = standings.get(j);
+                if (!paired[b] && (opponent < 0 || !met[a][b] && met[a][opponent])) {
+                    opponent = b;
+                    if (!met[a][b]) {
+                        break;
+                    }
+                }
+            }
+            if (opponent < 0) {
+                continue;
+            }
+            paired[a] = true;
+            paired[opponent] = true;
+            met[a][opponent] = true;
+            met[opponent][a] = true;
+            pairings.add(new int[]{a, opponent});
+        }
+        return pairings;
+    }
+
+    private static List<String> displayNames(List<BotStrategy> bots) {
+        List<String> names = new ArrayList<>();
+        for (BotStrategy bot : bots) {
+            String name = bot.getName();
+            int copies = 1;
+            while (names.contains(name)) {
+                name = bot.getName() + "#" + ++copies;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,10 @@
+package com.unitbase.game.tournament;
+
+/**
+ * @param gamesPerPairing number of game pairs per pairing; every pair is played
+ *                        once with each bot on RED
+ * @param swissRounds     rounds to play, ignored for round robin
+ */
+public record TournamentConfig(Tournament.Format format, int gamesPerPairing, int swissRounds,
+                               long seed, int parallelism) {
+}
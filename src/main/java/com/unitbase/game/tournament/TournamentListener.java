@@ -0,0 +1,11 @@
+package com.unitbase.game.tournament;
+
+@FunctionalInterface
+public interface TournamentListener {
+
+    /**
+     * Called from worker threads after each completed chunk of games has been
+     * merged into the crosstable.
+     */
+    void onProgress(Crosstable table);
+}
@@ -0,0 +1,109 @@
+package com.unitbase.game.tournament;
+
+import com.unitbase.game.cli.CommandLine;
+import com.unitbase.game.engine.OpeningBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Command line entry point, e.g.
+ * <pre>
+ * java -cp target/classes com.unitbase.game.tournament.TournamentRunner \
+ *     --bots=random,greedy,search --format=swiss --rounds=5 --games=100000 --seed=42
+ * </pre>
+ */
+public class TournamentRunner {
+
+    public static void main(String[] args) {
+        Map<String, String> options = CommandLine.parseOptions(args);
+
+        // the book is shared by all search bots and only built when one is entered
+        Supplier<OpeningBook> book = new Supplier<>() {
+            private OpeningBook built;
+
+            @Override
+            public OpeningBook get() {
+                if (built == null) {
+                    built = OpeningBook.build(Integer.parseInt(options.getOrDefault("book-plies", "4")),
+                            Integer.parseInt(options.getOrDefault("book-depth", "4")));
+                }
+                return built;
+            }
+        };
+        Map<String, Supplier<BotStrategy>> available = Map.of(
+                "random", RandomBot::new,
+                "greedy", GreedyBot::new,
+                "search", () -> new SearchBot(Integer.parseInt(options.getOrDefault("search-depth", "2")), book.get()));
+
+        List<BotStrategy> bots = new ArrayList<>();
+        for (String name : options.getOrDefault("bots", "random,greedy").split(",")) {
+            Supplier<BotStrategy> bot = available.get(name.trim());
+            if (bot == null) {
+                throw new IllegalArgumentException("Unknown bot '" + name + "', expected one of " + available.keySet());
+            }
+            bots.add(bot.get());
+        }
+
+        Tournament.Format format = Tournament.Format.valueOf(
+                options.getOrDefault("format", "round-robin").replace('-', '_').toUpperCase(Locale.ROOT));
+        TournamentConfig config = new TournamentConfig(
+                format,
+                Integer.parseInt(options.getOrDefault("games", "1000")),
+                Integer.parseInt(options.getOrDefault("rounds", "5")),
+                Long.parseLong(options.getOrDefault("seed", "1")),
+                Integer.parseInt(options.getOrDefault("threads",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))));
+
+        long reportEvery = Long.parseLong(options.getOrDefault("report-every", "100000"));
+        AtomicLong nextReport = new AtomicLong(reportEvery);
+        long start = System.nanoTime();
+        Tournament tournament = new Tournament(bots, config, table -> {
+            long played = table.getGamesPlayed();
+            long due = nextReport.get();
+            if (played >= due && nextReport.compareAndSet(due, played + reportEvery)) {
+                System.out.println(formatStandings(table, start));
+            }
+        });
+
+        Crosstable result = tournament.run();
+        System.out.println(formatStandings(result, start));
+        System.out.println(formatCrosstable(result));
+    }
+
+    static String formatStandings(Crosstable table, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        double[] elo = EloEstimator.estimate(table);
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%,d games in %.1fs (%,.0f games/s)%n",
+                table.getGamesPlayed(), seconds, table.getGamesPlayed() / Math.max(seconds, 1e-9)));
+        for (int a = 0; a < table.size(); a++) {
+            long games = table.getGames(a);
+            out.append(String.format(Locale.ROOT, "  %-12s elo %7.1f  score %,.1f/%,d (%.1f%%)%n",
+                    table.getNames().get(a), elo[a], table.getScore(a), games,
+                    games == 0 ? 0.0 : 100.0 * table.getScore(a) / games));
+        }
+        return out.toString();
+    }
+
+    static String formatCrosstable(Crosstable table) {
+        StringBuilder out = new StringBuilder(String.format("%-12s", ""));
+        for (String name : table.getNames()) {
+            out.append(String.format(" %18s", name));
+        }
+        out.append(System.lineSeparator());
+        for (int a = 0; a < table.size(); a++) {
+            out.append(String.format("%-12s", table.getNames().get(a)));
+            for (int b = 0; b < table.size(); b++) {
+                out.append(a == b ? String.format(" %18s", "-") : String.format(" %18s",
+                        table.getWins(a, b) + "/" + table.getDraws(a, b) + "/" + table.getWins(b, a)));
+            }
+            out.append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.unitbase.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.serialization.GameStateSerializer;
+import com.unitbase.game.service.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails the build when a hot path allocates more than its budget. Each path runs
+ * a few rounds so the JIT settles, and the cheapest round is compared, which keeps
+ * the check stable while still catching a per-call allocation creeping back in.
+ */
+class AllocationBudgetTest {
+
+    // A move used to allocate about 21 KB (line lists, streams, new Ring objects); it is now
+    // allocation free apart from each player's first HashMap.values() view.
+    private static final double MOVE_BUDGET_BYTES = 64;
+    // The reflective bean serializer needs roughly 950 bytes; GameStateSerializer about 600.
+    private static final double GET_GAME_BUDGET_BYTES = 800;
+
+    private static final int ROUNDS = 5;
+    private static final int GAMES = 10_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void enableAllocationCounting() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    @DisplayName("makeMove and checkWin should stay within their allocation budget")
+    void makeMove_ShouldStayWithinAllocationBudget() {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            // Given
+            GameState[] games = new GameState[GAMES];
+            for (int i = 0; i < GAMES; i++) {
+                games[i] = new GameState("game-" + i);
+                games[i].addPlayer("Player1");
+                games[i].addPlayer("Player2");
+            }
+
+            // When - five moves ending in a win, each followed by checkWin
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (GameState game : games) {
+                game.makeMove(0, 0, "SMALL", "RED");
+                game.makeMove(1, 0, "SMALL", "BLUE");
+                game.makeMove(0, 1, "MEDIUM", "RED");
+                game.makeMove(1, 1, "SMALL", "BLUE");
+                game.makeMove(0, 2, "LARGE", "RED");
+            }
+            best = Math.min(best, (threads.getCurrentThreadAllocatedBytes() - before) / (GAMES * 5.0));
+
+            assertEquals("RED", games[0].getWinner());
+        }
+
+        // Then
+        assertTrue(best <= MOVE_BUDGET_BYTES,
+                "makeMove allocated " + best + " bytes per call, budget is " + MOVE_BUDGET_BYTES);
+    }
+
+    @Test
+    @DisplayName("getGame with serialization should stay within its allocation budget")
+    void getGame_Serialized_ShouldStayWithinAllocationBudget() throws Exception {
+        // Given
+        GameService gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+        String gameId = gameService.createGame().getGameId();
+        gameService.joinGame(gameId, "Player1");
+        gameService.joinGame(gameId, "Player2");
+        gameService.makeMove(gameId, 1, 1, "SMALL", "RED");
+        gameService.makeMove(gameId, 0, 0, "LARGE", "BLUE");
+
+        ObjectWriter writer = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new GameStateSerializer()))
+                .writerFor(GameState.class);
+        OutputStream sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            // When
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < GAMES; i++) {
+                writer.writeValue(sink, gameService.getGame(gameId));
+            }
+            best = Math.min(best, (threads.getCurrentThreadAllocatedBytes() - before) / (double) GAMES);
+        }
+
+        // Then
+        assertTrue(best <= GET_GAME_BUDGET_BYTES,
+                "getGame + serialization allocated " + best + " bytes per call, budget is " + GET_GAME_BUDGET_BYTES);
+    }
+}
@@ -0,0 +1,83 @@
+package com.unitbase.game.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchiveAnalyticsTest {
+
+    @TempDir
+    Path dir;
+
+    // RED stacks all three sizes on the center cell
+    private static final byte[] STACK_WIN = {12, 0, 13, 1, 14};
+    // RED plays SMALL, MEDIUM, LARGE along the top row
+    private static final byte[] ORDER_WIN = {0, 9, 4, 10, 8};
+
+    @Test
+    @DisplayName("Scan should total games spread over several blocks")
+    void scan_ShouldTotalGamesAcrossBlocks() throws Exception {
+        // Given - enough records to fill a few blocks, so the scan splits into several tasks
+        int games = 3 * ArchivedGame.BLOCK_SIZE / new ArchivedGame("g0", List.of("alice", "bob"), 0, STACK_WIN).encode().length;
+        try (FileChannel channel = FileChannel.open(dir.resolve(GameArchive.DATA_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long offset = 0;
+            for (int i = 0; i < games; i++) {
+                byte[] moves = i % 4 == 0 ? ORDER_WIN : STACK_WIN;
+                List<String> players = i % 2 == 0 ? List.of("alice", "bob") : List.of("bob", "alice");
+                byte[] record = new ArchivedGame("g" + i, players, i, moves).encode();
+                if (record.length > ArchivedGame.roomInBlock(offset)) {
+                    offset += ArchivedGame.roomInBlock(offset);
+                }
+                channel.write(ByteBuffer.wrap(record), offset);
+                offset += record.length;
+            }
+
+            // When
+            ArchiveStats stats = ArchiveAnalytics.scan(channel, new ForkJoinPool(4), 2);
+
+            // Then
+            assertEquals(games, stats.games());
+            assertEquals(5.0, stats.averageLength());
+            assertEquals((games + 3) / 4, stats.winConditionCount(ArchiveStats.WinCondition.SIZE_ORDER));
+            assertEquals(games - (games + 3) / 4, stats.winConditionCount(ArchiveStats.WinCondition.STACK));
+            long[] alice = stats.player("alice");
+            assertEquals(games, alice[0]);
+            assertEquals((games + 1) / 2, alice[1]);
+            assertEquals(2, stats.topOpenings(5).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Results should render as CSV and JSON")
+    void write_ShouldRenderCsvAndJson() throws Exception {
+        // Given
+        ArchiveStats stats = new ArchiveStats(2);
+        stats.add(new ArchivedGame("g1", List.of("alice", "bob, jr"), 0, STACK_WIN));
+        stats.add(new ArchivedGame("g2", List.of("alice", "bob, jr"), 0, ORDER_WIN));
+
+        // When
+        StringWriter csv = new StringWriter();
+        stats.writeCsv(csv, 1);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        stats.writeJson(json, 1);
+
+        // Then
+        assertTrue(csv.toString().contains("win_condition,STACK,1,0.5000\n"));
+        assertTrue(csv.toString().contains("player,alice,2,1.0000\n"));
+        assertTrue(csv.toString().contains("player,\"bob, jr\",2,0.0000\n"));
+        assertTrue(json.toString().startsWith("{\"games\":2,\"averageLength\":5.0,"));
+        assertTrue(json.toString().contains("{\"name\":\"alice\",\"games\":2,\"wins\":2,\"winRate\":1.0}"));
+    }
+}
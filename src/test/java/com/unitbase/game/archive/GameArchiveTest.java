@@ -0,0 +1,125 @@
+package com.unitbase.game.archive;
+
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+    }
+
+    // RED completes the top row; BLUE's rings go along the middle row
+    private GameState playToWin(String red, String blue) {
+        String gameId = gameService.createGame().getGameId();
+        gameService.joinGame(gameId, red);
+        gameService.joinGame(gameId, blue);
+        gameService.makeMove(gameId, 0, 0, "SMALL", "RED");
+        gameService.makeMove(gameId, 1, 0, "SMALL", "BLUE");
+        gameService.makeMove(gameId, 0, 1, "SMALL", "RED");
+        gameService.makeMove(gameId, 1, 1, "MEDIUM", "BLUE");
+        gameService.makeMove(gameId, 0, 2, "SMALL", "RED");
+        return gameService.getGame(gameId);
+    }
+
+    @Test
+    @DisplayName("Finished games should survive a restart and replay to the same state")
+    void finishedGames_ShouldReplayAfterRestart() throws Exception {
+        // Given
+        GameArchive archive = new GameArchive(gameService, dir, 2, 100);
+        GameState first = playToWin("alice", "bob");
+        GameState second = playToWin("carol", "alice");
+        String unfinished = gameService.createGame().getGameId();
+        gameService.joinGame(unfinished, "alice");
+        archive.close();
+
+        // When
+        GameArchive reopened = new GameArchive(new GameService(), dir, 2, 100);
+        GameState replayed = reopened.find(first.getGameId()).replay(Integer.MAX_VALUE);
+
+        // Then
+        assertEquals("FINISHED", replayed.getStatus());
+        assertEquals(first.getWinner(), replayed.getWinner());
+        assertEquals(first.getWinningLine(), replayed.getWinningLine());
+        assertArrayEquals(first.moveCodes(), replayed.moveCodes());
+        assertEquals(first.getLastActivity(), replayed.getLastActivity());
+        assertEquals(List.of(first.getGameId(), second.getGameId()), reopened.gameIds("alice"));
+        assertNull(reopened.find(unfinished));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("A torn record and a lost index should be recovered from the data file")
+    void recovery_ShouldReindexDataAndDropTornRecord() throws Exception {
+        // Given
+        GameArchive archive = new GameArchive(gameService, dir, 16, 100);
+        GameState kept = playToWin("alice", "bob");
+        GameState torn = playToWin("carol", "dave");
+        archive.close();
+        Path data = dir.resolve(GameArchive.DATA_FILE);
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(data) - 3);
+        }
+        Files.delete(dir.resolve(GameArchive.INDEX_FILE));
+
+        // When
+        GameArchive reopened = new GameArchive(new GameService(), dir, 16, 100);
+
+        // Then
+        assertNotNull(reopened.find(kept.getGameId()));
+        assertNull(reopened.find(torn.getGameId()));
+        assertEquals(List.of(kept.getGameId()), reopened.gameIds("bob"));
+        assertTrue(reopened.gameIds("carol").isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("A batch that fails to write should be cut back off the data file")
+    void append_Failure_ShouldRollBackData() throws Exception {
+        // Given - the index can no longer be written, so every batch fails after its records are on disk
+        GameArchive archive = new GameArchive(gameService, dir, 16, 100);
+        ((FileChannel) ReflectionTestUtils.getField(archive, "index")).close();
+
+        // When
+        GameState lost = playToWin("alice", "bob");
+        archive.close();
+
+        // Then
+        assertEquals(0, Files.size(dir.resolve(GameArchive.DATA_FILE)));
+        assertNull(archive.find(lost.getGameId()));
+        assertTrue(archive.gameIds("alice").isEmpty());
+    }
+
+    @Test
+    @DisplayName("An archive in an older format should be refused rather than misread")
+    void open_OlderFormat_ShouldFail() throws Exception {
+        // Given - a version 1 record header
+        Files.write(dir.resolve(GameArchive.DATA_FILE), new byte[]{0, 0, 0, 9, 1, 0, 0, 0, 0, 0, 0, 0, 0});
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> new GameArchive(gameService, dir, 16, 100));
+    }
+}
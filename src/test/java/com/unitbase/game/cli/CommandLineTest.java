@@ -0,0 +1,30 @@
+package com.unitbase.game.cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandLineTest {
+
+    @Test
+    @DisplayName("Options should map names to values, splitting at the first '='")
+    void parseOptions_ShouldSplitNameAndValue() {
+        // When
+        Map<String, String> options = CommandLine.parseOptions(
+                new String[]{"--games=500", "--bots=random,greedy", "--filter=a=b", "--games=10"});
+
+        // Then
+        assertEquals(Map.of("games", "10", "bots", "random,greedy", "filter", "a=b"), options);
+        assertTrue(CommandLine.parseOptions(new String[0]).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Arguments not of the form --name=value should be rejected")
+    void parseOptions_Malformed_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.parseOptions(new String[]{"--games"}));
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.parseOptions(new String[]{"games=5"}));
+    }
+}
@@ -0,0 +1,170 @@
+package com.unitbase.game.cluster;
+
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterServiceTest {
+
+    private static final String A = "http://a:8080";
+    private static final String B = "http://b:8080";
+    private static final String SECRET = "s3cret";
+
+    private final Map<String, ClusterService> nodes = new HashMap<>();
+    private GameService serviceA;
+    private GameService serviceB;
+
+    @BeforeEach
+    void setUp() {
+        serviceA = newGameService();
+        serviceB = newGameService();
+    }
+
+    private GameService newGameService() {
+        GameService gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+        return gameService;
+    }
+
+    // Delivers handed off games straight to the other node's service
+    private ClusterService join(GameService gameService, String self, List<String> members) {
+        ClusterService cluster = new ClusterService(gameService, self, members, 64, ClusterService.Mode.FORWARD, SECRET,
+                (node, games) -> nodes.get(node).receive(games));
+        nodes.put(self, cluster);
+        return cluster;
+    }
+
+    @Test
+    @DisplayName("Games created in a cluster should be owned by the node that created them")
+    void createGame_ShouldOnlyGenerateOwnedIds() {
+        // Given
+        ClusterService cluster = join(serviceA, A, List.of(A, B));
+
+        // When / Then
+        for (int i = 0; i < 200; i++) {
+            assertTrue(cluster.owns(serviceA.createGame().getGameId()));
+        }
+    }
+
+    @Test
+    @DisplayName("Adding a node should hand its games over with their moves replayed")
+    void setNodes_ShouldHandOffGamesToNewOwner() {
+        // Given
+        ClusterService clusterA = join(serviceA, A, List.of(A));
+        List<String> gameIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String gameId = serviceA.createGame().getGameId();
+            serviceA.joinGame(gameId, "alice" + i);
+            serviceA.joinGame(gameId, "bob" + i);
+            serviceA.makeMove(gameId, 1, 1, "LARGE", "RED");
+            gameIds.add(gameId);
+        }
+        ClusterService clusterB = join(serviceB, B, List.of(A, B));
+
+        // When
+        int handedOff = clusterA.setNodes(List.of(A, B));
+
+        // Then
+        assertTrue(handedOff > 0 && handedOff < 100, "handed off " + handedOff);
+        for (int i = 0; i < gameIds.size(); i++) {
+            String gameId = gameIds.get(i);
+            GameService owner = clusterA.owns(gameId) ? serviceA : serviceB;
+            GameService other = owner == serviceA ? serviceB : serviceA;
+            GameState game = owner.getGame(gameId);
+            assertNotNull(game);
+            assertNull(other.getGame(gameId));
+            assertEquals(clusterA.ownerOf(gameId), clusterB.ownerOf(gameId));
+            assertTrue(game.getBoard()[1][1].hasTopRing("LARGE", "RED"));
+            assertEquals("BLUE", game.getPlayers().get(game.getCurrentPlayerIndex()).getColor());
+            assertEquals(1, owner.getPlayerGames("alice" + i).size());
+        }
+        assertEquals(handedOff, serviceB.findGames(game -> true).size());
+    }
+
+    @Test
+    @DisplayName("A failed handoff should keep the games on the old node")
+    void setNodes_ShouldKeepGamesWhenTransferFails() {
+        // Given
+        ClusterService cluster = new ClusterService(serviceA, A, List.of(A), 64, ClusterService.Mode.FORWARD, SECRET,
+                (node, games) -> {
+                    throw new IOException("unreachable");
+                });
+        for (int i = 0; i < 50; i++) {
+            serviceA.createGame();
+        }
+
+        // When
+        int handedOff = cluster.setNodes(List.of(A, B));
+
+        // Then
+        assertEquals(0, handedOff);
+        assertEquals(50, serviceA.findGames(game -> true).size());
+    }
+
+    @Test
+    @DisplayName("The member list must include this node")
+    void setNodes_ShouldRejectListWithoutSelf() {
+        // Given
+        ClusterService cluster = join(serviceA, A, List.of(A));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> cluster.setNodes(List.of(B)));
+    }
+
+    @Test
+    @DisplayName("Leaving should hand every game to the remaining nodes")
+    void leave_ShouldHandOffEverything() {
+        // Given
+        join(serviceB, B, List.of(A, B));
+        ClusterService clusterA = join(serviceA, A, List.of(A, B));
+        for (int i = 0; i < 20; i++) {
+            serviceA.createGame();
+        }
+
+        // When
+        int handedOff = clusterA.leave();
+
+        // Then
+        assertEquals(20, handedOff);
+        assertTrue(serviceA.findGames(game -> true).isEmpty());
+        assertEquals(20, serviceB.findGames(game -> true).size());
+        assertNull(serviceA.createGame());
+    }
+
+    @Test
+    @DisplayName("Only requests carrying the secret should count as coming from a member")
+    void isPeer_ShouldRequireSecret() {
+        // Given
+        ClusterService cluster = join(serviceA, A, List.of(A, B));
+        ClusterService single = new ClusterService(serviceB, B, List.of(), 64, ClusterService.Mode.FORWARD, "", null);
+
+        // Then
+        assertTrue(cluster.isPeer(SECRET));
+        assertFalse(cluster.isPeer("guess"));
+        assertFalse(cluster.isPeer(null));
+        assertTrue(cluster.isForwardedByPeer(B, SECRET));
+        assertFalse(cluster.isForwardedByPeer(B, null));
+        assertFalse(cluster.isForwardedByPeer(null, SECRET));
+        assertFalse(single.isPeer(""));
+    }
+
+    @Test
+    @DisplayName("Joining a cluster without a secret should fail at startup")
+    void constructor_MembersWithoutSecret_ShouldFail() {
+        assertThrows(IllegalStateException.class, () ->
+                new ClusterService(serviceA, A, List.of(A, B), 64, ClusterService.Mode.FORWARD, "", null));
+    }
+}
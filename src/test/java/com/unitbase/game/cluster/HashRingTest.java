@@ -0,0 +1,66 @@
+package com.unitbase.game.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashRingTest {
+
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    @DisplayName("Keys should spread roughly evenly across nodes")
+    void ownerOf_ShouldSpreadKeys() {
+        // Given
+        HashRing ring = new HashRing(NODES, 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 30000; i++) {
+            counts.merge(ring.ownerOf(UUID.randomUUID().toString()), 1, Integer::sum);
+        }
+
+        // Then
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 7000 && count < 13000, "unbalanced: " + counts));
+    }
+
+    @Test
+    @DisplayName("Adding a node should only move keys onto that node")
+    void addNode_ShouldOnlyMoveKeysToNewNode() {
+        // Given
+        HashRing before = new HashRing(NODES, 128);
+        HashRing after = new HashRing(List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080"), 128);
+        int moved = 0;
+
+        // When / Then
+        for (int i = 0; i < 10000; i++) {
+            String key = UUID.randomUUID().toString();
+            if (!before.ownerOf(key).equals(after.ownerOf(key))) {
+                assertEquals("http://d:8080", after.ownerOf(key));
+                moved++;
+            }
+        }
+        assertTrue(moved > 1500 && moved < 3500, "moved " + moved);
+    }
+
+    @Test
+    @DisplayName("Member order should not change ownership")
+    void ownerOf_ShouldNotDependOnMemberOrder() {
+        // Given
+        HashRing ring = new HashRing(NODES, 64);
+        HashRing reordered = new HashRing(List.of("http://c:8080", "http://a:8080", "http://b:8080"), 64);
+
+        // When / Then
+        for (int i = 0; i < 1000; i++) {
+            String key = UUID.randomUUID().toString();
+            assertEquals(ring.ownerOf(key), reordered.ownerOf(key));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.unitbase.game.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuthInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private static MockHttpServletRequest request(String secret) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/games");
+        if (secret != null) {
+            request.addHeader(AdminAuthInterceptor.SECRET_HEADER, secret);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("A request carrying the admin secret should be let through")
+    void matchingSecret_ShouldProceed() {
+        // Given
+        AdminAuthInterceptor interceptor = new AdminAuthInterceptor("s3cret");
+
+        // When
+        boolean proceed = interceptor.preHandle(request("s3cret"), response, null);
+
+        // Then
+        assertTrue(proceed);
+    }
+
+    @Test
+    @DisplayName("A missing or wrong secret should be refused with 403")
+    void missingOrWrongSecret_ShouldBeForbidden() {
+        // Given
+        AdminAuthInterceptor interceptor = new AdminAuthInterceptor("s3cret");
+
+        // When & Then
+        assertFalse(interceptor.preHandle(request(null), response, null));
+        assertFalse(interceptor.preHandle(request("guess"), response, null));
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("With no secret configured the admin endpoints should be closed")
+    void noSecretConfigured_ShouldRefuseEveryone() {
+        // Given
+        AdminAuthInterceptor interceptor = new AdminAuthInterceptor("");
+
+        // When & Then
+        assertFalse(interceptor.preHandle(request(""), response, null));
+        assertEquals(403, response.getStatus());
+    }
+}
@@ -0,0 +1,70 @@
+package com.unitbase.game.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentEtagsTest {
+
+    private final ContentEtags etags = new ContentEtags();
+
+    @Test
+    @DisplayName("ETags should follow the content, so each variant gets its own")
+    void apply_ShouldHashContent() {
+        // Given
+        Resource page = new ByteArrayResource("<html>a</html>".getBytes(), "page");
+        Resource samePage = new ByteArrayResource("<html>a</html>".getBytes(), "page copy");
+        Resource gzipped = new ByteArrayResource(new byte[]{31, -117, 8, 0}, "page.gz");
+
+        // When
+        String etag = etags.apply(page);
+
+        // Then
+        assertEquals(32, etag.length());
+        assertEquals(etag, etags.apply(samePage));
+        assertNotEquals(etag, etags.apply(gzipped));
+    }
+
+    @Test
+    @DisplayName("Each resource should be hashed only once")
+    void apply_ShouldCacheByResource() throws IOException {
+        // Given
+        int[] reads = {0};
+        Resource page = new ByteArrayResource("<html>a</html>".getBytes(), "page") {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                reads[0]++;
+                return super.getInputStream();
+            }
+        };
+
+        // When
+        String first = etags.apply(page);
+        String second = etags.apply(page);
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(1, reads[0]);
+    }
+
+    @Test
+    @DisplayName("Unreadable resources should get no ETag")
+    void apply_UnreadableResource_ShouldReturnNull() {
+        // Given
+        Resource missing = new ByteArrayResource(new byte[0], "missing") {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("gone");
+            }
+        };
+
+        // When / Then
+        assertNull(etags.apply(missing));
+    }
+}
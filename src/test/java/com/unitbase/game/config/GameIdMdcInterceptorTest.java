@@ -0,0 +1,71 @@
+package com.unitbase.game.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameIdMdcInterceptorTest {
+
+    private final GameIdMdcInterceptor interceptor = new GameIdMdcInterceptor();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("The game id should be in the MDC while the request runs and gone afterwards")
+    void gameIdPath_ShouldSetAndClearMdc() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/game/g1/move");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("gameId", "g1"));
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, null);
+        String during = MDC.get(GameIdMdcInterceptor.GAME_ID);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        assertTrue(proceed);
+        assertEquals("g1", during);
+        assertNull(MDC.get(GameIdMdcInterceptor.GAME_ID));
+    }
+
+    @Test
+    @DisplayName("The MDC should be cleared even when the handler failed")
+    void failedRequest_ShouldStillClearMdc() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/game/g2");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("gameId", "g2"));
+
+        // When
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, new IllegalStateException("boom"));
+
+        // Then
+        assertNull(MDC.get(GameIdMdcInterceptor.GAME_ID));
+    }
+
+    @Test
+    @DisplayName("Requests without a game id should leave the MDC untouched")
+    void pathWithoutGameId_ShouldNotSetMdc() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/game/create");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of());
+
+        // When
+        interceptor.preHandle(request, response, null);
+
+        // Then
+        assertNull(MDC.get(GameIdMdcInterceptor.GAME_ID));
+    }
+}
@@ -0,0 +1,61 @@
+package com.unitbase.game.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticAssetCompressorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Compressible files should get a gzip copy that inflates to the original")
+    void compress_ShouldWriteGzipVariants() throws Exception {
+        // Given
+        byte[] page = "<div class=\"cell\"></div>\n".repeat(200).getBytes();
+        Files.write(dir.resolve("index.html"), page);
+        Files.createDirectories(dir.resolve("assets"));
+        Files.write(dir.resolve("assets/app.js"), "console.log('ring');\n".repeat(100).getBytes());
+
+        // When
+        List<Path> written = StaticAssetCompressor.compress(dir, null);
+
+        // Then
+        assertEquals(2, written.size());
+        assertTrue(Files.size(dir.resolve("index.html.gz")) < page.length);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(dir.resolve("index.html.gz")))) {
+            assertArrayEquals(page, in.readAllBytes());
+        }
+        assertTrue(Files.exists(dir.resolve("assets/app.js.gz")));
+    }
+
+    @Test
+    @DisplayName("Small, binary and incompressible files should be left alone")
+    void compress_ShouldSkipFilesThatDoNotShrink() throws Exception {
+        // Given
+        Files.write(dir.resolve("tiny.css"), "body{}".getBytes());
+        Files.write(dir.resolve("logo.png"), new byte[4096]);
+        byte[] noise = new byte[4096];
+        new Random(7).nextBytes(noise);
+        Files.write(dir.resolve("noise.txt"), noise);
+
+        // When
+        List<Path> written = StaticAssetCompressor.compress(dir, null);
+
+        // Then
+        assertTrue(written.isEmpty());
+        assertFalse(Files.exists(dir.resolve("tiny.css.gz")));
+        assertFalse(Files.exists(dir.resolve("logo.png.gz")));
+        assertFalse(Files.exists(dir.resolve("noise.txt.gz")));
+    }
+}
@@ -0,0 +1,104 @@
+package com.unitbase.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminControllerTest {
+
+    @Mock
+    private GameService gameService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private AdminController adminController;
+
+    private GameState game(String gameId, String... players) {
+        GameState game = new GameState(gameId);
+        for (String player : players) {
+            game.addPlayer(player);
+        }
+        return game;
+    }
+
+    @Test
+    void listGames_ShouldStreamOneLinePerGame() throws Exception {
+        // Given
+        GameState playing = game("g1", "alice", "bob");
+        playing.tryMove(0, 0, "SMALL", "RED");
+        when(gameService.listGames(eq("PLAYING"), eq(0L), isNull(), eq(2), anyLong()))
+                .thenReturn(List.of(playing, game("g2", "carol")));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = adminController.listGames("PLAYING", 0, null, 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("g2", response.getHeaders().getFirst(AdminController.NEXT_CURSOR));
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"gameId\":\"g1\",\"status\":\"PLAYING\",\"players\":[\"alice\",\"bob\"],\"moveCount\":1,"));
+        assertTrue(lines[1].contains("\"players\":[\"carol\"]"));
+    }
+
+    @Test
+    void listGames_LastPage_ShouldOmitCursor() {
+        // Given
+        when(gameService.listGames(isNull(), eq(60_000L), eq("g2"), eq(10), anyLong()))
+                .thenReturn(List.of(game("g3")));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = adminController.listGames(null, 60_000, "g2", 10);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(AdminController.NEXT_CURSOR));
+    }
+
+    @Test
+    void listGames_InvalidLimit_ShouldReturnBadRequest() {
+        // When
+        ResponseEntity<StreamingResponseBody> response = adminController.listGames(null, 0, null, 0);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void listGames_Exception_ShouldReturnInternalServerError() {
+        // Given
+        when(gameService.listGames(any(), anyLong(), any(), anyInt(), anyLong()))
+                .thenThrow(new RuntimeException("Service error"));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = adminController.listGames(null, 0, null, 10);
+
+        // Then
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+}
@@ -1,19 +1,41 @@
 package com.unitbase.game.controller;
 
+import com.unitbase.game.archive.ArchivedGame;
+import com.unitbase.game.archive.GameArchive;
+import com.unitbase.game.model.BatchOperation;
+import com.unitbase.game.model.BatchResult;
 import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Hint;
+import com.unitbase.game.model.JoinRequest;
+import com.unitbase.game.model.Move;
+import com.unitbase.game.model.MoveOutcome;
+import com.unitbase.game.model.MoveRequest;
+import com.unitbase.game.model.MoveResult;
 import com.unitbase.game.model.Player;
+import com.unitbase.game.model.PlayerColor;
+import com.unitbase.game.model.RingSize;
+import com.unitbase.game.service.BatchService;
 import com.unitbase.game.service.GameService;
+import com.unitbase.game.service.HintService;
+import com.unitbase.game.service.SpectatorHub;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +48,18 @@ class GameControllerTest {
     @Mock
     private GameService gameService;
 
+    @Mock
+    private HintService hintService;
+
+    @Mock
+    private SpectatorHub spectatorHub;
+
+    @Mock
+    private GameArchive gameArchive;
+
+    @Mock
+    private BatchService batchService;
+
     @InjectMocks
     private GameController gameController;
 
@@ -75,6 +109,19 @@ class GameControllerTest {
         verify(gameService, times(1)).createGame();
     }
 
+    @Test
+    void createGame_AtCapacity_ShouldReturnServiceUnavailable() {
+        // Given
+        when(gameService.createGame()).thenReturn(null);
+
+        // When
+        ResponseEntity<GameState> response = gameController.createGame();
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
     @Test
     void createGame_Exception_ShouldReturnInternalServerError() {
         // Given
@@ -96,8 +143,7 @@ class GameControllerTest {
         // Given
         String gameId = mockGameState.getGameId();
         String playerName = "player2";
-        Map<String, String> request = new HashMap<>();
-        request.put("playerName", playerName);
+        JoinRequest request = new JoinRequest(playerName);
 
         players = new ArrayList<>();
         players.add(new Player(playerName, "BLUE"));
@@ -120,8 +166,7 @@ class GameControllerTest {
         // Given
         String gameId = "test-game-id-fail";
         String playerName = "player2";
-        Map<String, String> request = new HashMap<>();
-        request.put("playerName", playerName);
+        JoinRequest request = new JoinRequest(playerName);
 
         when(gameService.joinGame(gameId, playerName)).thenReturn(null);
 
@@ -139,8 +184,7 @@ class GameControllerTest {
         // Given
         String gameId = "test-game-id-error";
         String playerName = "player2";
-        Map<String, String> request = new HashMap<>();
-        request.put("playerName", playerName);
+        JoinRequest request = new JoinRequest(playerName);
 
         when(gameService.joinGame(gameId, playerName)).thenThrow(new RuntimeException("Service error"));
 
@@ -159,62 +203,70 @@ class GameControllerTest {
     void makeMove_Success_ShouldReturnGameState() {
         // Given
         String gameId = mockGameState.getGameId();
-        Map<String, Object> move = new HashMap<>();
-        move.put("row", 1);
-        move.put("col", 2);
-        move.put("size", "LARGE");
-        move.put("playerColor", "RED");
+        MoveRequest move = new MoveRequest(1, 2, RingSize.LARGE, PlayerColor.RED);
 
         mockGameState.setStatus("IN_PROGRESS");
 
-        when(gameService.makeMove(gameId, 1, 2, "LARGE", "RED")).thenReturn(mockGameState);
+        when(gameService.makeMove(gameId, 1, 2, "LARGE", "RED")).thenReturn(MoveOutcome.accepted(mockGameState));
 
         // When
-        ResponseEntity<GameState> response = gameController.makeMove(gameId, move);
+        ResponseEntity<?> response = gameController.makeMove(gameId, move);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("IN_PROGRESS", response.getBody().getStatus());
+        assertEquals("IN_PROGRESS", ((GameState) response.getBody()).getStatus());
         verify(gameService, times(1)).makeMove(gameId, 1, 2, "LARGE", "RED");
+        verify(gameService, never()).getGame(gameId);
     }
 
     @Test
-    void makeMove_Failed_ShouldReturnBadRequest() {
+    void makeMove_Failed_ShouldReturnBadRequestWithReason() {
         // Given
         String gameId = mockGameState.getGameId();
-        Map<String, Object> move = new HashMap<>();
-        move.put("row", 1);
-        move.put("col", 2);
-        move.put("size", "LARGE");
-        move.put("playerColor", "RED");
+        MoveRequest move = new MoveRequest(1, 2, RingSize.LARGE, PlayerColor.RED);
 
-        when(gameService.makeMove(gameId, 1, 2, "LARGE", "RED")).thenReturn(null);
+        when(gameService.makeMove(gameId, 1, 2, "LARGE", "RED")).thenReturn(MoveOutcome.rejected(MoveResult.NOT_YOUR_TURN));
 
         // When
-        ResponseEntity<GameState> response = gameController.makeMove(gameId, move);
+        ResponseEntity<?> response = gameController.makeMove(gameId, move);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        assertNull(response.getBody());
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertEquals("NOT_YOUR_TURN", body.get("result"));
+        assertEquals(MoveResult.NOT_YOUR_TURN.getMessage(), body.get("message"));
         verify(gameService, times(1)).makeMove(gameId, 1, 2, "LARGE", "RED");
+        verify(gameService, never()).getGame(gameId);
+    }
+
+    @Test
+    void makeMove_UnknownGame_ShouldReturnNotFoundWithReason() {
+        // Given
+        String gameId = "non-existent-game-id";
+        MoveRequest move = new MoveRequest(0, 0, RingSize.SMALL, PlayerColor.RED);
+
+        when(gameService.makeMove(gameId, 0, 0, "SMALL", "RED")).thenReturn(MoveOutcome.rejected(MoveResult.UNKNOWN_GAME));
+
+        // When
+        ResponseEntity<?> response = gameController.makeMove(gameId, move);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("UNKNOWN_GAME", ((Map<?, ?>) response.getBody()).get("result"));
     }
 
     @Test
     void makeMove_Exception_ShouldReturnInternalServerError() {
         // Given
         String gameId = mockGameState.getGameId();
-        Map<String, Object> move = new HashMap<>();
-        move.put("row", 1);
-        move.put("col", 2);
-        move.put("size", "LARGE");
-        move.put("playerColor", "RED");
+        MoveRequest move = new MoveRequest(1, 2, RingSize.LARGE, PlayerColor.RED);
 
         when(gameService.makeMove(gameId, 1, 2, "LARGE", "RED"))
                 .thenThrow(new RuntimeException("Invalid move"));
 
         // When
-        ResponseEntity<GameState> response = gameController.makeMove(gameId, move);
+        ResponseEntity<?> response = gameController.makeMove(gameId, move);
 
         // Then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
@@ -222,6 +274,57 @@ class GameControllerTest {
         verify(gameService, times(1)).makeMove(gameId, 1, 2, "LARGE", "RED");
     }
 
+    // Plays an accepted and a rejected move at the given sample rate and returns what was logged
+    private List<ILoggingEvent> logMoves(double sampleRate) {
+        Logger logger = (Logger) LoggerFactory.getLogger(GameController.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            ReflectionTestUtils.setField(gameController, "moveSampleRate", sampleRate);
+            MoveRequest move = new MoveRequest(1, 2, RingSize.LARGE, PlayerColor.RED);
+            when(gameService.makeMove("g1", 1, 2, "LARGE", "RED"))
+                    .thenReturn(MoveOutcome.accepted(mockGameState), MoveOutcome.rejected(MoveResult.CELL_OCCUPIED));
+            gameController.makeMove("g1", move);
+            gameController.makeMove("g1", move);
+            return appender.list;
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    void makeMove_SampleRateZero_ShouldNotLogMoves() {
+        // When
+        List<ILoggingEvent> events = logMoves(0);
+
+        // Then
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void makeMove_SampleRateOne_ShouldLogEveryMove() {
+        // When
+        List<ILoggingEvent> events = logMoves(1);
+
+        // Then
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).getFormattedMessage().contains("accepted"));
+        assertTrue(events.get(1).getFormattedMessage().contains("rejected: CELL_OCCUPIED"));
+    }
+
+    @Test
+    void handleInvalidRequest_ShouldReturnBadRequestWithReason() {
+        // When
+        ResponseEntity<Map<String, String>> response =
+                gameController.handleInvalidRequest(new IllegalArgumentException("bad size"));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("INVALID_REQUEST", response.getBody().get("result"));
+        verifyNoInteractions(gameService);
+    }
+
     // ========== GETGAME() METHOD TESTS ==========
 
     @Test
@@ -270,4 +373,193 @@ class GameControllerTest {
         assertNull(response.getBody());
         verify(gameService, times(1)).getGame(gameId);
     }
-}
\ No newline at end of file
+
+    // ========== GETLEGALMOVES() METHOD TESTS ==========
+
+    @Test
+    void getLegalMoves_Success_ShouldReturnMoves() {
+        // Given
+        String gameId = mockGameState.getGameId();
+        List<Move> moves = List.of(new Move(0, 0, "SMALL"), new Move(1, 2, "LARGE"));
+        when(gameService.getLegalMoves(gameId)).thenReturn(moves);
+
+        // When
+        ResponseEntity<List<Move>> response = gameController.getLegalMoves(gameId);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(moves, response.getBody());
+        verify(gameService, times(1)).getLegalMoves(gameId);
+    }
+
+    @Test
+    void getLegalMoves_NotFound_ShouldReturnNotFound() {
+        // Given
+        String gameId = "non-existent-game-id";
+        when(gameService.getLegalMoves(gameId)).thenReturn(null);
+
+        // When
+        ResponseEntity<List<Move>> response = gameController.getLegalMoves(gameId);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(gameService, times(1)).getLegalMoves(gameId);
+    }
+
+    // ========== GETHINT() METHOD TESTS ==========
+
+    @Test
+    void getHint_Success_ShouldReturnHint() {
+        // Given
+        String gameId = mockGameState.getGameId();
+        Hint hint = new Hint(List.of(), List.of(new Move(0, 2, "SMALL")), new Move(0, 2, "SMALL"));
+        when(hintService.getHint(gameId)).thenReturn(hint);
+
+        // When
+        ResponseEntity<Hint> response = gameController.getHint(gameId);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(hint, response.getBody());
+        verify(hintService, times(1)).getHint(gameId);
+    }
+
+    @Test
+    void getHint_NotFound_ShouldReturnNotFound() {
+        // Given
+        String gameId = "non-existent-game-id";
+        when(hintService.getHint(gameId)).thenReturn(null);
+
+        // When
+        ResponseEntity<Hint> response = gameController.getHint(gameId);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    // ========== SPECTATE() METHOD TESTS ==========
+
+    @Test
+    void spectate_Success_ShouldReturnEmitter() {
+        // Given
+        String gameId = mockGameState.getGameId();
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        when(gameService.getGame(gameId)).thenReturn(mockGameState);
+        when(spectatorHub.subscribe(mockGameState)).thenReturn(emitter);
+
+        // When
+        ResponseEntity<ResponseBodyEmitter> response = gameController.spectate(gameId);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(emitter, response.getBody());
+        assertEquals(MediaType.TEXT_EVENT_STREAM, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void spectate_UnknownGame_ShouldReturnNotFound() {
+        // Given
+        when(gameService.getGame("missing")).thenReturn(null);
+
+        // When
+        ResponseEntity<ResponseBodyEmitter> response = gameController.spectate("missing");
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verifyNoInteractions(spectatorHub);
+    }
+
+    @Test
+    void spectate_GameFull_ShouldReturnServiceUnavailable() {
+        // Given
+        String gameId = mockGameState.getGameId();
+        when(gameService.getGame(gameId)).thenReturn(mockGameState);
+        when(spectatorHub.subscribe(mockGameState)).thenReturn(null);
+
+        // When
+        ResponseEntity<ResponseBodyEmitter> response = gameController.spectate(gameId);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    // ========== REPLAY() METHOD TESTS ==========
+
+    @Test
+    void replay_ArchivedGame_ShouldReturnReplayedState() throws Exception {
+        // Given - RED completes the top row with small rings
+        byte[] moves = {
+                (byte) Move.encode(0, 0, 0), (byte) Move.encode(1, 0, 0),
+                (byte) Move.encode(0, 1, 0), (byte) Move.encode(1, 1, 0),
+                (byte) Move.encode(0, 2, 0)};
+        when(gameArchive.find("g1")).thenReturn(new ArchivedGame("g1", List.of("alice", "bob"), 42L, moves));
+
+        // When
+        ResponseEntity<GameState> full = gameController.replay("g1", null);
+        ResponseEntity<GameState> partial = gameController.replay("g1", 2);
+
+        // Then
+        assertEquals(HttpStatus.OK, full.getStatusCode());
+        assertEquals("FINISHED", full.getBody().getStatus());
+        assertEquals("RED", full.getBody().getWinner());
+        assertEquals(42L, full.getBody().getLastActivity());
+        assertEquals("PLAYING", partial.getBody().getStatus());
+        assertEquals(2, partial.getBody().moveCount());
+    }
+
+    @Test
+    void replay_UnknownGame_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(gameArchive.find("missing")).thenReturn(null);
+
+        // When
+        ResponseEntity<GameState> response = gameController.replay("missing", null);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void replay_NegativeMoves_ShouldReturnBadRequest() {
+        // When
+        ResponseEntity<GameState> response = gameController.replay("g1", -1);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(gameArchive);
+    }
+
+    // ========== BATCH() METHOD TESTS ==========
+
+    @Test
+    void batch_ShouldReturnResultsFromService() {
+        // Given
+        List<BatchOperation> operations = List.of(new BatchOperation(BatchOperation.Op.GET, "g1", null, null, null, null, null));
+        List<BatchResult> results = List.of(BatchResult.error(404, "UNKNOWN_GAME", "No game with that id"));
+        when(batchService.getMaxOperations()).thenReturn(10);
+        when(batchService.execute(operations, "127.0.0.1")).thenReturn(results);
+
+        // When
+        ResponseEntity<List<BatchResult>> response = gameController.batch(operations, new MockHttpServletRequest());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(results, response.getBody());
+    }
+
+    @Test
+    void batch_TooManyOperations_ShouldReturnPayloadTooLarge() {
+        // Given
+        BatchOperation create = new BatchOperation(BatchOperation.Op.CREATE, null, null, null, null, null, null);
+        when(batchService.getMaxOperations()).thenReturn(1);
+
+        // When
+        ResponseEntity<List<BatchResult>> response = gameController.batch(List.of(create, create), new MockHttpServletRequest());
+
+        // Then
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        verify(batchService, never()).execute(any(), any());
+    }
+}
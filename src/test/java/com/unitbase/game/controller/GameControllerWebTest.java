@@ -0,0 +1,103 @@
+package com.unitbase.game.controller;
+
+import com.unitbase.game.archive.GameArchive;
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.model.MoveOutcome;
+import com.unitbase.game.model.MoveResult;
+import com.unitbase.game.ratelimit.RateLimits;
+import com.unitbase.game.service.BatchService;
+import com.unitbase.game.service.GameService;
+import com.unitbase.game.service.HintService;
+import com.unitbase.game.service.SpectatorHub;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Binding and validation through the real MVC stack, which the plain controller
+ * tests bypass by calling the methods directly.
+ */
+@WebMvcTest(GameController.class)
+@Import(GameController.class)
+class GameControllerWebTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GameService gameService;
+
+    @MockBean
+    private HintService hintService;
+
+    @MockBean
+    private SpectatorHub spectatorHub;
+
+    @MockBean
+    private GameArchive gameArchive;
+
+    @MockBean
+    private BatchService batchService;
+
+    // Needed by the interceptor components the slice picks up
+    @MockBean
+    private ClusterService clusterService;
+
+    @MockBean
+    private RateLimits rateLimits;
+
+    private void expectInvalidMove(String body) throws Exception {
+        mockMvc.perform(post("/api/game/g1/move").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.result").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void makeMove_MalformedBody_ShouldReturnInvalidRequest() throws Exception {
+        expectInvalidMove("{\"row\":1,\"col\":");
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void makeMove_OutOfRange_ShouldReturnInvalidRequest() throws Exception {
+        expectInvalidMove("{\"row\":3,\"col\":0,\"size\":\"SMALL\",\"playerColor\":\"RED\"}");
+        expectInvalidMove("{\"row\":0,\"col\":-1,\"size\":\"SMALL\",\"playerColor\":\"RED\"}");
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void makeMove_MissingOrUnknownField_ShouldReturnInvalidRequest() throws Exception {
+        expectInvalidMove("{\"col\":0,\"size\":\"SMALL\",\"playerColor\":\"RED\"}");
+        expectInvalidMove("{\"row\":0,\"col\":0,\"size\":\"HUGE\",\"playerColor\":\"RED\"}");
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void joinGame_BlankName_ShouldReturnInvalidRequest() throws Exception {
+        mockMvc.perform(post("/api/game/g1/join").contentType(MediaType.APPLICATION_JSON).content("{\"playerName\":\" \"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.result").value("INVALID_REQUEST"));
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void makeMove_Rejected_ShouldReturnReason() throws Exception {
+        // Given
+        when(gameService.makeMove("g1", 0, 0, "SMALL", "RED")).thenReturn(MoveOutcome.rejected(MoveResult.NOT_YOUR_TURN));
+
+        // When & Then
+        mockMvc.perform(post("/api/game/g1/move").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\":0,\"col\":0,\"size\":\"SMALL\",\"playerColor\":\"RED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.result").value("NOT_YOUR_TURN"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.unitbase.game.controller;
+
+import com.unitbase.game.model.PlayerRating;
+import com.unitbase.game.service.RatingService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardControllerTest {
+
+    @Mock
+    private RatingService ratingService;
+
+    @InjectMocks
+    private LeaderboardController leaderboardController;
+
+    @Test
+    void getLeaderboard_ShouldReturnPage() {
+        // Given
+        List<PlayerRating> page = List.of(new PlayerRating(11, "alice", 1620.5, 12, 9, 1, 2));
+        when(ratingService.getLeaderboard(10, 1)).thenReturn(page);
+
+        // When
+        ResponseEntity<List<PlayerRating>> response = leaderboardController.getLeaderboard(10, 1);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void getLeaderboard_InvalidLimit_ShouldReturnBadRequest() {
+        // When
+        ResponseEntity<List<PlayerRating>> response = leaderboardController.getLeaderboard(0, LeaderboardController.MAX_LIMIT + 1);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(ratingService);
+    }
+
+    @Test
+    void getRating_ShouldReturnRating() {
+        // Given
+        PlayerRating rating = new PlayerRating(3, "alice", 1540.0, 4, 3, 0, 1);
+        when(ratingService.getRating("alice")).thenReturn(rating);
+
+        // When
+        ResponseEntity<PlayerRating> response = leaderboardController.getRating("alice");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(rating, response.getBody());
+    }
+
+    @Test
+    void getRating_UnratedPlayer_ShouldReturnNotFound() {
+        // Given
+        when(ratingService.getRating("nobody")).thenReturn(null);
+
+        // When
+        ResponseEntity<PlayerRating> response = leaderboardController.getRating("nobody");
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
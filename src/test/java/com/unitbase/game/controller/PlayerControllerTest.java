@@ -0,0 +1,149 @@
+package com.unitbase.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unitbase.game.archive.GameArchive;
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.model.GameSummary;
+import com.unitbase.game.service.GameService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerControllerTest {
+
+    @Mock
+    private GameService gameService;
+
+    @Mock
+    private GameArchive gameArchive;
+
+    @Mock
+    private ClusterService cluster;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private PlayerController playerController;
+
+    @Test
+    void getPlayerGames_ShouldReturnSummaries() {
+        // Given
+        List<GameSummary> games = List.of(new GameSummary("g1", "PLAYING", "RED", "bob", true, 3, 1L));
+        when(gameService.getPlayerGames("alice")).thenReturn(games);
+
+        // When
+        ResponseEntity<List<GameSummary>> response = playerController.getPlayerGames("alice", new MockHttpServletRequest());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(games, response.getBody());
+    }
+
+    @Test
+    void getPlayerGames_Exception_ShouldReturnInternalServerError() {
+        // Given
+        when(gameService.getPlayerGames("alice")).thenThrow(new RuntimeException("Service error"));
+
+        // When
+        ResponseEntity<List<GameSummary>> response = playerController.getPlayerGames("alice", new MockHttpServletRequest());
+
+        // Then
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getPlayerHistory_ShouldReturnArchivedGameIds() {
+        // Given
+        when(gameArchive.gameIds("alice")).thenReturn(List.of("g1", "g2"));
+
+        // When
+        ResponseEntity<List<String>> response = playerController.getPlayerHistory("alice", new MockHttpServletRequest());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("g1", "g2"), response.getBody());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<byte[]> answer(int status, String body) {
+        HttpResponse<byte[]> answer = mock(HttpResponse.class);
+        when(answer.statusCode()).thenReturn(status);
+        lenient().when(answer.body()).thenReturn(body.getBytes());
+        return answer;
+    }
+
+    @Test
+    void getPlayerGames_Clustered_ShouldMergeOtherMembersGames() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/alice/games");
+        when(cluster.isEnabled()).thenReturn(true);
+        when(gameService.getPlayerGames("alice"))
+                .thenReturn(List.of(new GameSummary("g1", "PLAYING", "RED", "bob", true, 3, 1L)));
+        List<HttpResponse<byte[]>> answers = List.of(
+                answer(200, "[{\"gameId\":\"g1\",\"status\":\"PLAYING\",\"color\":\"RED\",\"opponent\":\"bob\","
+                        + "\"yourTurn\":false,\"version\":4,\"lastActivity\":2},"
+                        + "{\"gameId\":\"g2\",\"status\":\"WAITING\",\"color\":\"BLUE\",\"opponent\":null,"
+                        + "\"yourTurn\":false,\"version\":0,\"lastActivity\":5}]"),
+                answer(503, ""));
+        when(cluster.gather(eq("/api/player/alice/games"), any())).thenReturn(answers);
+
+        // When
+        ResponseEntity<List<GameSummary>> response = playerController.getPlayerGames("alice", request);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(
+                new GameSummary("g1", "PLAYING", "RED", "bob", false, 4, 2L),
+                new GameSummary("g2", "WAITING", "BLUE", null, false, 0, 5L)), response.getBody());
+    }
+
+    @Test
+    void getPlayerHistory_Clustered_ShouldMergeOtherMembersArchives() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/alice/history");
+        when(cluster.isEnabled()).thenReturn(true);
+        when(gameArchive.gameIds("alice")).thenReturn(List.of("g1", "g2"));
+        List<HttpResponse<byte[]>> answers = List.of(answer(200, "[\"g3\",\"g2\"]"));
+        when(cluster.gather("/api/player/alice/history", Map.of("Accept", "application/json"))).thenReturn(answers);
+
+        // When
+        ResponseEntity<List<String>> response = playerController.getPlayerHistory("alice", request);
+
+        // Then
+        assertEquals(List.of("g1", "g2", "g3"), response.getBody());
+    }
+
+    @Test
+    void getPlayerHistory_ForwardedByPeer_ShouldOnlyAnswerLocally() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/alice/history");
+        request.addHeader(ClusterService.FORWARDED_HEADER, "http://b:8080");
+        request.addHeader(ClusterService.SECRET_HEADER, "s3cret");
+        when(cluster.isEnabled()).thenReturn(true);
+        when(cluster.isForwardedByPeer("http://b:8080", "s3cret")).thenReturn(true);
+        when(gameArchive.gameIds("alice")).thenReturn(List.of("g1"));
+
+        // When
+        ResponseEntity<List<String>> response = playerController.getPlayerHistory("alice", request);
+
+        // Then
+        assertEquals(List.of("g1"), response.getBody());
+        verify(cluster, never()).gather(any(), any());
+    }
+}
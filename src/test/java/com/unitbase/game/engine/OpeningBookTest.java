@@ -0,0 +1,55 @@
+package com.unitbase.game.engine;
+
+import com.unitbase.game.model.GameState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTest {
+
+    private static final OpeningBook BOOK = OpeningBook.build(2, 3);
+
+    @Test
+    @DisplayName("Book should hold every canonical position of the first plies")
+    void build_ShouldEnumerateCanonicalPositions() {
+        // 1 empty board, 9 distinct first moves and 126 distinct replies
+        assertEquals(1 + 9 + 126, BOOK.size());
+    }
+
+    @Test
+    @DisplayName("Book moves should match a search of the same depth")
+    void bestMove_ShouldMatchSearch() {
+        long canonical = Position.canonical(Position.play(0L, 4));
+
+        assertEquals(Search.bestMove(canonical, 3), BOOK.bestMove(canonical));
+        assertEquals(Search.bestMove(0L, 3), BOOK.bestMove(0L));
+    }
+
+    @Test
+    @DisplayName("Book should map moves back onto non-canonical boards")
+    void bestMoveFor_ShouldReturnLegalMoveInOriginalFrame() {
+        // Given - RED opened with a SMALL ring in the bottom right corner
+        GameState game = new GameState();
+        game.addPlayer("Player1");
+        game.addPlayer("Player2");
+        game.makeMove(2, 2, "SMALL", "RED");
+        long position = Position.of(game);
+
+        // When
+        int move = BOOK.bestMoveFor(position);
+
+        // Then
+        assertTrue(move >= 0);
+        assertNotEquals(0, game.legalMoveMask() & 1 << move);
+    }
+
+    @Test
+    @DisplayName("Positions beyond the book depth should not be found")
+    void bestMove_OutOfBook_ShouldReturnMinusOne() {
+        long position = Position.play(Position.play(Position.play(0L, 0), 13), 26);
+
+        assertEquals(-1, BOOK.bestMove(Position.canonical(position)));
+        assertEquals(-1, OpeningBook.EMPTY.bestMove(0L));
+    }
+}
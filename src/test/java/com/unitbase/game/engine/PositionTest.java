@@ -0,0 +1,98 @@
+package com.unitbase.game.engine;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionTest {
+
+    private GameState gameState;
+
+    @BeforeEach
+    void setUp() {
+        gameState = new GameState();
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+    }
+
+    @Test
+    @DisplayName("Packed position should reflect rings and side to move")
+    void of_ShouldPackBoardAndSideToMove() {
+        // Given
+        gameState.makeMove(0, 2, "LARGE", "RED");
+
+        // When
+        long position = Position.of(gameState);
+
+        // Then
+        assertEquals(1 << new Move(0, 2, "LARGE").code(), Position.slots(position, Position.RED));
+        assertEquals(0, Position.slots(position, Position.BLUE));
+        assertEquals(Position.BLUE, Position.sideToMove(position));
+        assertEquals(2, Position.inventory(position, Position.RED, 2));
+        assertEquals(gameState.legalMoveMask(), Position.legalMoves(position));
+    }
+
+    @Test
+    @DisplayName("Rotations and reflections should share one canonical position")
+    void canonical_ShouldBeSymmetryInvariant() {
+        // Given
+        gameState.makeMove(0, 0, "SMALL", "RED");
+        gameState.makeMove(0, 1, "LARGE", "BLUE");
+        gameState.makeMove(1, 1, "MEDIUM", "RED");
+        long position = Position.of(gameState);
+
+        // When & Then
+        long canonical = Position.canonical(position);
+        for (int t = 0; t < Position.SYMMETRIES; t++) {
+            long transformed = Position.transform(position, t);
+            assertEquals(canonical, Position.canonical(transformed));
+            assertEquals(position, Position.transform(transformed, Position.inverse(t)));
+        }
+    }
+
+    @Test
+    @DisplayName("Winning moves should predict exactly the moves GameState scores as wins")
+    void winningMoves_ShouldAgreeWithGameState() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int game = 0; game < 500; game++) {
+            GameState state = new GameState("game-" + game);
+            state.addPlayer("Player1");
+            state.addPlayer("Player2");
+            while ("PLAYING".equals(state.getStatus()) && state.legalMoveMask() != 0) {
+                long position = Position.of(state);
+                int wins = Position.winningMoves(position, Position.sideToMove(position));
+                int[] moves = new int[Move.MAX_CODES];
+                int code = moves[random.nextInt(state.legalMoves(moves))];
+
+                Move move = Move.decode(code);
+                state.makeMove(move.row(), move.col(), move.size(), state.getCurrentPlayer().getColor());
+
+                // placing the last ring without a win also finishes the game, as a draw
+                assertEquals((wins & 1 << code) != 0, state.getWinner() != null);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Search should take an immediate win and block an immediate loss")
+    void bestMove_ShouldWinOrBlock() {
+        // Given - RED threatens the top row with SMALL rings
+        gameState.makeMove(0, 0, "SMALL", "RED");
+        gameState.makeMove(2, 2, "LARGE", "BLUE");
+        gameState.makeMove(0, 1, "SMALL", "RED");
+        long bluesTurn = Position.of(gameState);
+
+        // When & Then
+        assertEquals(new Move(0, 2, "SMALL").code(), Search.bestMove(bluesTurn, 3));
+
+        gameState.makeMove(2, 0, "LARGE", "BLUE");
+        long redsTurn = Position.of(gameState);
+        assertEquals(new Move(0, 2, "SMALL").code(), Search.bestMove(redsTurn, 3));
+    }
+}
@@ -0,0 +1,239 @@
+package com.unitbase.game.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unitbase.game.cli.CommandLine;
+import com.unitbase.game.model.GameState;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a running server through its REST API with simulated player pairs, one
+ * virtual thread per player. Each pair creates a game and joins it; then each
+ * player polls the game until it is their turn, thinks, and posts a random legal
+ * move, starting a new game when one finishes. Latencies are recorded per
+ * endpoint in HdrHistograms and reported at intervals and at the end, e.g.
+ * <pre>
+ * java -cp target/test-classes:target/classes:... com.unitbase.game.load.LoadGenerator \
+ *     --url=http://localhost:8080 --pairs=2000 --duration-s=120 --think-ms=500 --poll-ms=250
+ * </pre>
+ */
+public class LoadGenerator {
+
+    enum Endpoint { CREATE, JOIN, MOVE, POLL }
+
+    private static final long MAX_LATENCY_NANOS = 60_000_000_000L;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int thinkMillis;
+    private final int pollMillis;
+    private final HttpClient client;
+    private final Recorder[] recorders = new Recorder[Endpoint.values().length];
+    private final Histogram[] totals = new Histogram[Endpoint.values().length];
+    private final AtomicLong gamesFinished = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    LoadGenerator(String baseUrl, int thinkMillis, int pollMillis) {
+        this.baseUrl = baseUrl;
+        this.thinkMillis = thinkMillis;
+        this.pollMillis = pollMillis;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new Recorder(MAX_LATENCY_NANOS, 3);
+            totals[i] = new Histogram(MAX_LATENCY_NANOS, 3);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLine.parseOptions(args);
+        LoadGenerator generator = new LoadGenerator(
+                options.getOrDefault("url", "http://localhost:8080"),
+                Integer.parseInt(options.getOrDefault("think-ms", "500")),
+                Integer.parseInt(options.getOrDefault("poll-ms", "250")));
+        generator.run(
+                Integer.parseInt(options.getOrDefault("pairs", "1000")),
+                Integer.parseInt(options.getOrDefault("duration-s", "60")),
+                Integer.parseInt(options.getOrDefault("ramp-s", "10")),
+                Integer.parseInt(options.getOrDefault("report-s", "5")),
+                Long.parseLong(options.getOrDefault("seed", "1")));
+    }
+
+    void run(int pairs, int durationSeconds, int rampSeconds, int reportSeconds, long seed) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + durationSeconds * 1_000_000_000L;
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int pair = 0; pair < pairs; pair++) {
+                long startDelay = rampSeconds * 1000L * pair / pairs;
+                SplittableRandom random = seeds.split();
+                players.submit(() -> playPair(startDelay, deadline, random));
+            }
+
+            long lastReport = start;
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(Math.min(reportSeconds * 1000L, Math.max(1, (deadline - System.nanoTime()) / 1_000_000)));
+                long now = System.nanoTime();
+                System.out.println(report(String.format(Locale.ROOT, "t=%4.0fs", (now - start) / 1e9),
+                        (now - lastReport) / 1e9, true));
+                lastReport = now;
+            }
+        }
+        System.out.println(report("total", (System.nanoTime() - start) / 1e9, false));
+    }
+
+    private Void playPair(long startDelayMillis, long deadline, SplittableRandom random) throws InterruptedException {
+        Thread.sleep(startDelayMillis);
+        while (System.nanoTime() < deadline) {
+            JsonNode game = call(Endpoint.CREATE, post("/api/game/create", ""));
+            if (game == null) {
+                Thread.sleep(pollMillis);
+                continue;
+            }
+            String gameId = game.get("gameId").asText();
+            String join = "/api/game/" + gameId + "/join";
+            if (call(Endpoint.JOIN, post(join, "{\"playerName\":\"" + gameId.substring(0, 8) + "-a\"}")) == null
+                    || call(Endpoint.JOIN, post(join, "{\"playerName\":\"" + gameId.substring(0, 8) + "-b\"}")) == null) {
+                continue;
+            }
+
+            // The second player runs on its own virtual thread, polling like a real client would
+            SplittableRandom blueRandom = random.split();
+            Thread blue = Thread.ofVirtual().start(() -> play(gameId, 1, deadline, blueRandom));
+            play(gameId, 0, deadline, random);
+            blue.join();
+        }
+        return null;
+    }
+
+    private void play(String gameId, int playerIndex, long deadline, SplittableRandom random) {
+        HttpRequest poll = HttpRequest.newBuilder(URI.create(baseUrl + "/api/game/" + gameId)).build();
+        String color = GameState.COLORS[playerIndex];
+        try {
+            while (System.nanoTime() < deadline) {
+                JsonNode game = call(Endpoint.POLL, poll);
+                if (game == null) {
+                    return;
+                }
+                // Won and drawn games end as FINISHED; a turn with no legal move counts as over too
+                int current = game.get("currentPlayerIndex").asInt();
+                String move = "PLAYING".equals(game.get("status").asText())
+                        ? randomLegalMove(game, current, random) : null;
+                if (move == null) {
+                    if (playerIndex == 0) {
+                        gamesFinished.incrementAndGet();
+                    }
+                    return;
+                }
+                if (current != playerIndex) {
+                    Thread.sleep(pollMillis);
+                    continue;
+                }
+
+                Thread.sleep(thinkMillis > 0 ? random.nextInt(thinkMillis) + thinkMillis / 2 : 0);
+                call(Endpoint.MOVE, post("/api/game/" + gameId + "/move",
+                        move + ",\"playerColor\":\"" + color + "\"}"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Returns the start of a move body, without the closing brace, or null if there is no legal move
+    private static String randomLegalMove(JsonNode game, int playerIndex, SplittableRandom random) {
+        JsonNode rings = game.get("players").get(playerIndex).get("rings");
+        JsonNode board = game.get("board");
+        String chosen = null;
+        int seen = 0;
+        for (int row = 0; row < GameState.BOARD_SIZE; row++) {
+            for (int col = 0; col < GameState.BOARD_SIZE; col++) {
+                JsonNode stack = board.get(row).get(col).get("rings");
+                for (String size : GameState.SIZES) {
+                    if (rings.path(size).asInt() == 0 || contains(stack, size)) {
+                        continue;
+                    }
+                    // reservoir sampling keeps the choice uniform without collecting the moves
+                    if (random.nextInt(++seen) == 0) {
+                        chosen = "{\"row\":" + row + ",\"col\":" + col + ",\"size\":\"" + size + "\"";
+                    }
+                }
+            }
+        }
+        return chosen;
+    }
+
+    private static boolean contains(JsonNode stack, String size) {
+        for (JsonNode ring : stack) {
+            if (size.equals(ring.get("size").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // Returns the parsed body of a 200 response, or null after counting the failure
+    private JsonNode call(Endpoint endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorders[endpoint.ordinal()].recordValue(Math.min(System.nanoTime() - start, MAX_LATENCY_NANOS));
+            if (response.statusCode() != 200) {
+                errors.incrementAndGet();
+                return null;
+            }
+            return MAPPER.readTree(response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            return null;
+        }
+    }
+
+    private synchronized String report(String label, double seconds, boolean interval) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%s games finished %d, errors %d%n", label, gamesFinished.get(), errors.get()));
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram;
+            if (interval) {
+                histogram = recorders[endpoint.ordinal()].getIntervalHistogram();
+                totals[endpoint.ordinal()].add(histogram);
+            } else {
+                totals[endpoint.ordinal()].add(recorders[endpoint.ordinal()].getIntervalHistogram());
+                histogram = totals[endpoint.ordinal()];
+            }
+            out.append(String.format(Locale.ROOT,
+                    "  %-6s %9.1f req/s  p50 %8.2f  p90 %8.2f  p99 %8.2f  p99.9 %8.2f  max %8.2f ms%n",
+                    endpoint, histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(90) / 1e6,
+                    histogram.getValueAtPercentile(99) / 1e6, histogram.getValueAtPercentile(99.9) / 1e6,
+                    histogram.getMaxValue() / 1e6));
+        }
+        return out.toString();
+    }
+}
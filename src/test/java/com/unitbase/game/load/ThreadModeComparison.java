@@ -0,0 +1,168 @@
+package com.unitbase.game.load;
+
+import com.unitbase.game.TicTacToeApplication;
+import com.unitbase.game.cli.CommandLine;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts the application once with platform threads and once with virtual threads
+ * and loads each with many concurrent requests to an endpoint that blocks, standing
+ * in for long polls, bot turns or slow I/O. Meanwhile a probe polls the real game
+ * API. Reports the peak number of requests being handled at once and p99 latencies.
+ * <pre>
+ * java -cp target/test-classes:target/classes:... com.unitbase.game.load.ThreadModeComparison \
+ *     --clients=2000 --block-ms=200 --duration-s=20
+ * </pre>
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLine.parseOptions(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        int blockMillis = Integer.parseInt(options.getOrDefault("block-ms", "200"));
+        int seconds = Integer.parseInt(options.getOrDefault("duration-s", "20"));
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            System.out.println(run(virtual, clients, blockMillis, seconds));
+        }
+    }
+
+    static String run(boolean virtual, int clients, int blockMillis, int seconds) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TicTacToeApplication.class, BlockingRoute.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "ringwars.opening-book.plies=-1",
+                        // every client and the poll probe share one address and one game
+                        "ringwars.rate-limit.client.per-second=1000000",
+                        "ringwars.rate-limit.client.burst=1000000",
+                        "ringwars.rate-limit.game.per-second=1000000",
+                        "ringwars.rate-limit.game.burst=1000000",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String base = "http://localhost:" + port;
+            BlockingRoute route = context.getBean(BlockingRoute.class);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            String gameId = client.send(HttpRequest.newBuilder(URI.create(base + "/api/game/create"))
+                            .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString()).body().replaceAll(".*\"gameId\":\"([^\"]+)\".*", "$1");
+
+            HttpRequest block = HttpRequest.newBuilder(URI.create(base + "/load/block?ms=" + blockMillis)).build();
+            HttpRequest poll = HttpRequest.newBuilder(URI.create(base + "/api/game/" + gameId)).build();
+            long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+            LatencyLog blocked = new LatencyLog(clients * (seconds * 1000 / blockMillis + 1));
+            LatencyLog polled = new LatencyLog(seconds * 100 + 1);
+            AtomicLong failures = new AtomicLong();
+
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < clients; i++) {
+                    threads.submit(() -> drive(client, block, deadline, blocked, failures));
+                }
+                threads.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        drive(client, poll, System.nanoTime() + 1, polled, failures);
+                        Thread.sleep(10);
+                    }
+                    return null;
+                });
+            }
+
+            return String.format("%-8s peak in flight %5d | blocking p50 %6.0f ms p99 %6.0f ms (%d calls) "
+                            + "| game poll p99 %6.1f ms (%d calls) | failures %d",
+                    virtual ? "virtual" : "platform", route.peak.get(),
+                    blocked.percentile(50), blocked.percentile(99), blocked.size(),
+                    polled.percentile(99), polled.size(), failures.get());
+        }
+    }
+
+    private static Void drive(HttpClient client, HttpRequest request, long deadline, LatencyLog log, AtomicLong failures) {
+        do {
+            long start = System.nanoTime();
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+                log.record(System.nanoTime() - start);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+        } while (System.nanoTime() < deadline);
+        return null;
+    }
+
+    /** Test-only endpoint that holds its request thread, counting how many are held at once. */
+    @Configuration(proxyBeanMethods = false)
+    static class BlockingRoute {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+
+        @Bean
+        RouterFunction<ServerResponse> blockingEndpoint() {
+            return RouterFunctions.route()
+                    .GET("/load/block", request -> {
+                        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(Long.parseLong(request.param("ms").orElse("100")));
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                        return ServerResponse.ok().body("ok");
+                    })
+                    .build();
+        }
+    }
+
+    /** Fixed-capacity latency record; samples beyond capacity are dropped. */
+    static final class LatencyLog {
+        private final long[] nanos;
+        private final AtomicInteger count = new AtomicInteger();
+
+        LatencyLog(int capacity) {
+            nanos = new long[capacity];
+        }
+
+        void record(long value) {
+            int i = count.getAndIncrement();
+            if (i < nanos.length) {
+                nanos[i] = value;
+            }
+        }
+
+        int size() {
+            return Math.min(count.get(), nanos.length);
+        }
+
+        double percentile(double p) {
+            int n = size();
+            if (n == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(nanos, n);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(n - 1, Math.ceil(p / 100 * n) - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.unitbase.game.metrics;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.service.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(registry));
+    }
+
+    private double rejected(String reason) {
+        return registry.get("ringwars.moves.rejected").tag("reason", reason).counter().count();
+    }
+
+    private double games(String status) {
+        return registry.get("ringwars.games").tag("status", status).gauge().value();
+    }
+
+    @Test
+    @DisplayName("Should time every game operation")
+    void operations_ShouldBeTimed() {
+        // When
+        GameState game = gameService.createGame();
+        gameService.joinGame(game.getGameId(), "Player1");
+        gameService.getGame(game.getGameId());
+
+        // Then
+        assertEquals(1, registry.get(GameMetrics.OPERATION_TIMER).tag("operation", "create").timer().count());
+        assertEquals(1, registry.get(GameMetrics.OPERATION_TIMER).tag("operation", "join").timer().count());
+        assertEquals(1, registry.get(GameMetrics.OPERATION_TIMER).tag("operation", "get").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count rejected moves by reason")
+    void makeMove_Rejected_ShouldCountReason() {
+        // Given
+        String gameId = gameService.createGame().getGameId();
+        gameService.makeMove(gameId, 0, 0, "SMALL", "RED");
+        gameService.joinGame(gameId, "Player1");
+        gameService.joinGame(gameId, "Player2");
+
+        // When
+        gameService.makeMove("missing", 0, 0, "SMALL", "RED");
+        gameService.makeMove(gameId, 3, 0, "SMALL", "RED");
+        gameService.makeMove(gameId, 0, 0, "SMALL", "BLUE");
+        gameService.makeMove(gameId, 0, 0, "SMALL", "RED");
+        gameService.makeMove(gameId, 0, 0, "SMALL", "BLUE");
+
+        // Then
+        assertEquals(1, rejected("unknown_game"));
+        assertEquals(1, rejected("game_not_playing"));
+        assertEquals(1, rejected("out_of_bounds"));
+        assertEquals(1, rejected("not_your_turn"));
+        assertEquals(1, rejected("cell_occupied"));
+        assertEquals(0, rejected("no_ring"));
+    }
+
+    @Test
+    @DisplayName("Should track games by status and count wins by type")
+    void gameLifecycle_ShouldUpdateGaugesAndWinCounters() {
+        // Given
+        String gameId = gameService.createGame().getGameId();
+        gameService.createGame();
+        assertEquals(2, games("WAITING"));
+        gameService.joinGame(gameId, "Player1");
+        gameService.joinGame(gameId, "Player2");
+        assertEquals(1, games("PLAYING"));
+
+        // When - RED completes a concentric stack
+        gameService.makeMove(gameId, 1, 1, "LARGE", "RED");
+        gameService.makeMove(gameId, 0, 0, "SMALL", "BLUE");
+        gameService.makeMove(gameId, 1, 1, "MEDIUM", "RED");
+        gameService.makeMove(gameId, 0, 1, "SMALL", "BLUE");
+        gameService.makeMove(gameId, 1, 1, "SMALL", "RED");
+
+        // Then
+        assertEquals(1, games("WAITING"));
+        assertEquals(0, games("PLAYING"));
+        assertEquals(1, games("FINISHED"));
+        assertEquals(1, registry.get("ringwars.games.finished").tag("win_type", "concentric").counter().count());
+
+        gameService.removeGame(gameId);
+        assertEquals(0, games("FINISHED"));
+    }
+
+    @Test
+    @DisplayName("Should count a game that runs out of rings as a draw")
+    void drawnGame_ShouldCountDraw() {
+        // Given
+        String gameId = gameService.createGame().getGameId();
+        gameService.joinGame(gameId, "Player1");
+        gameService.joinGame(gameId, "Player2");
+        String[][] moves = {
+                {"0", "1", "SMALL", "RED"}, {"1", "0", "SMALL", "BLUE"}, {"2", "0", "SMALL", "RED"},
+                {"0", "1", "MEDIUM", "BLUE"}, {"2", "2", "MEDIUM", "RED"}, {"1", "2", "LARGE", "BLUE"},
+                {"0", "0", "MEDIUM", "RED"}, {"0", "2", "MEDIUM", "BLUE"}, {"2", "1", "SMALL", "RED"},
+                {"0", "1", "LARGE", "BLUE"}, {"1", "2", "MEDIUM", "RED"}, {"1", "0", "MEDIUM", "BLUE"},
+                {"1", "0", "LARGE", "RED"}, {"1", "1", "SMALL", "BLUE"}, {"2", "2", "LARGE", "RED"},
+                {"1", "1", "LARGE", "BLUE"}, {"2", "0", "LARGE", "RED"}};
+        for (String[] move : moves) {
+            gameService.makeMove(gameId, Integer.parseInt(move[0]), Integer.parseInt(move[1]), move[2], move[3]);
+        }
+
+        // When - BLUE places the last ring without completing a line
+        gameService.makeMove(gameId, 2, 2, "SMALL", "BLUE");
+
+        // Then
+        assertEquals(1, games("FINISHED"));
+        assertEquals(1, registry.get("ringwars.games.finished").tag("win_type", "draw").counter().count());
+        assertEquals(0, registry.get("ringwars.games.finished").tag("win_type", "concentric").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should evict only idle games and update the gauges")
+    void evictIdleGames_ShouldRemoveIdleGamesOnly() {
+        // Given
+        GameState idle = gameService.createGame();
+        idle.setLastActivity(1_000);
+        GameState active = gameService.createGame();
+
+        // When
+        int evicted = gameService.evictIdleGames(60_000, active.getLastActivity());
+
+        // Then
+        assertEquals(1, evicted);
+        assertNull(gameService.getGame(idle.getGameId()));
+        assertNotNull(gameService.getGame(active.getGameId()));
+        assertEquals(1, games("WAITING"));
+    }
+}
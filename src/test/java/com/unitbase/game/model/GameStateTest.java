@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.List;
 
@@ -174,6 +176,28 @@ class GameStateTest {
         assertNotEquals(initialPlayerIndex, gameState.getCurrentPlayerIndex());
     }
 
+    @Test
+    @DisplayName("tryMove should report why a move is rejected")
+    void tryMove_ShouldReportRejectionReason() {
+        // Given
+        gameState.addPlayer("Player1");
+        assertEquals(MoveResult.GAME_NOT_PLAYING, gameState.tryMove(0, 0, "SMALL", "RED"));
+        gameState.addPlayer("Player2");
+        gameState.makeMove(0, 0, "SMALL", "RED");
+        gameState.makeMove(1, 1, "SMALL", "BLUE");
+        gameState.makeMove(0, 1, "SMALL", "RED");
+        gameState.makeMove(2, 2, "SMALL", "BLUE");
+        gameState.makeMove(2, 0, "SMALL", "RED");
+        gameState.makeMove(1, 0, "MEDIUM", "BLUE");
+
+        // When & Then
+        assertEquals(MoveResult.OUT_OF_BOUNDS, gameState.tryMove(0, 3, "LARGE", "RED"));
+        assertEquals(MoveResult.NOT_YOUR_TURN, gameState.tryMove(0, 2, "LARGE", "BLUE"));
+        assertEquals(MoveResult.NO_RING, gameState.tryMove(0, 2, "SMALL", "RED"));
+        assertEquals(MoveResult.CELL_OCCUPIED, gameState.tryMove(1, 0, "MEDIUM", "RED"));
+        assertEquals(MoveResult.OK, gameState.tryMove(1, 0, "LARGE", "RED"));
+    }
+
     // ========== WIN CONDITION TESTS ==========
 
     @Test
@@ -321,6 +345,131 @@ class GameStateTest {
         assertNull(gameState.getWinningLine());
     }
 
+    // ========== LEGAL MOVE TESTS ==========
+
+    @Test
+    @DisplayName("Should have no legal moves before the game starts")
+    void legalMoves_GameNotPlaying_ShouldBeEmpty() {
+        // Given
+        gameState.addPlayer("Player1");
+
+        // When
+        int count = gameState.legalMoves(new int[Move.MAX_CODES]);
+
+        // Then
+        assertEquals(0, count);
+        assertEquals(0, gameState.legalMoveMask());
+    }
+
+    @Test
+    @DisplayName("Should offer every cell and size on an empty board")
+    void legalMoves_EmptyBoard_ShouldContainAllMoves() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+
+        // When
+        int[] buffer = new int[Move.MAX_CODES];
+        int count = gameState.legalMoves(buffer);
+
+        // Then
+        assertEquals(27, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, buffer[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should exclude occupied slots and exhausted ring sizes")
+    void legalMoves_ShouldRespectOccupancyAndInventory() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+        gameState.makeMove(0, 0, "SMALL", "RED");
+        gameState.makeMove(1, 1, "LARGE", "BLUE");
+        gameState.makeMove(0, 1, "SMALL", "RED");
+        gameState.makeMove(2, 2, "MEDIUM", "BLUE");
+        gameState.makeMove(2, 0, "SMALL", "RED");
+        gameState.makeMove(2, 1, "MEDIUM", "BLUE");
+
+        // When - RED has used all of its SMALL rings
+        int mask = gameState.legalMoveMask();
+
+        // Then
+        for (int row = 0; row < GameState.BOARD_SIZE; row++) {
+            for (int col = 0; col < GameState.BOARD_SIZE; col++) {
+                assertEquals(0, mask & 1 << Move.encode(row, col, 0));
+            }
+        }
+        assertEquals(0, mask & 1 << new Move(1, 1, "LARGE").code());
+        assertEquals(0, mask & 1 << new Move(2, 2, "MEDIUM").code());
+        assertNotEquals(0, mask & 1 << new Move(1, 1, "MEDIUM").code());
+        assertEquals(15, Integer.bitCount(mask));
+    }
+
+    @Test
+    @DisplayName("Move codes should round trip through encode and decode")
+    void moveCode_ShouldRoundTrip() {
+        for (int code = 0; code < Move.MAX_CODES; code++) {
+            assertEquals(code, Move.decode(code).code());
+        }
+        assertEquals(new Move(2, 1, "MEDIUM"), Move.decode(Move.encode(2, 1, 1)));
+    }
+
+    // ========== THREAT MAP TESTS ==========
+
+    @Test
+    @DisplayName("Should track a line that is one move from a win")
+    void threats_TwoInARow_ShouldReportCompletingMove() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+
+        // When
+        gameState.makeMove(0, 0, "SMALL", "RED");
+        gameState.makeMove(2, 2, "LARGE", "BLUE");
+        gameState.makeMove(0, 1, "SMALL", "RED");
+
+        // Then
+        assertEquals(List.of(new Move(0, 2, "SMALL")), gameState.getThreats().get("RED"));
+        assertTrue(gameState.getThreats().get("BLUE").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop a threat once its slot is taken")
+    void threats_BlockedSlot_ShouldBeRemoved() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+        gameState.makeMove(1, 1, "LARGE", "RED");
+        gameState.makeMove(0, 0, "SMALL", "BLUE");
+        gameState.makeMove(1, 1, "MEDIUM", "RED");
+        assertEquals(1 << new Move(1, 1, "SMALL").code(), gameState.threatSlots(0));
+
+        // When - BLUE blocks the concentric stack
+        gameState.makeMove(1, 1, "SMALL", "BLUE");
+
+        // Then
+        assertEquals(0, gameState.threatSlots(0));
+        assertTrue(gameState.getThreats().get("RED").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore threats the player has no ring left for")
+    void threats_ExhaustedSize_ShouldBeHidden() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+        gameState.makeMove(0, 0, "SMALL", "RED");
+        gameState.makeMove(1, 0, "SMALL", "BLUE");
+        gameState.makeMove(0, 1, "SMALL", "RED");
+        gameState.makeMove(0, 2, "SMALL", "BLUE");
+        gameState.makeMove(2, 2, "SMALL", "RED");
+
+        // Then - RED's diagonal needs a SMALL ring at 1,1 but all three are on the board
+        assertEquals(0, gameState.threatSlots(0) & 1 << new Move(1, 1, "SMALL").code());
+    }
+
     // ========== GETTER TESTS ==========
 
     @Test
@@ -409,6 +558,78 @@ class GameStateTest {
         assertTrue(gameState.getLastActivity() > initialActivity);
     }
 
+    @Test
+    @DisplayName("Version should change on accepted moves only")
+    void version_ShouldChangeOnAcceptedMovesOnly() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+        int joined = gameState.getVersion();
+
+        // When
+        gameState.makeMove(0, 0, "SMALL", "BLUE");
+        int afterRejected = gameState.getVersion();
+        gameState.makeMove(0, 0, "SMALL", "RED");
+
+        // Then
+        assertEquals(2, joined);
+        assertEquals(joined, afterRejected);
+        assertEquals(joined + 1, gameState.getVersion());
+    }
+
+    @Test
+    @DisplayName("Move codes should record accepted moves in play order")
+    void moveCodes_ShouldRecordAcceptedMovesInOrder() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+
+        // When
+        gameState.makeMove(1, 1, "LARGE", "RED");
+        gameState.makeMove(0, 2, "SMALL", "RED");
+        gameState.makeMove(0, 2, "SMALL", "BLUE");
+
+        // Then
+        assertArrayEquals(new byte[]{(byte) Move.encode(1, 1, 2), (byte) Move.encode(0, 2, 0)},
+                gameState.moveCodes());
+        assertEquals(2, gameState.moveCount());
+    }
+
+    @Test
+    @DisplayName("Placing the last ring without a win should end the game in a draw")
+    void lastRingWithoutWin_ShouldEndInDraw() {
+        // Given
+        gameState.addPlayer("Player1");
+        gameState.addPlayer("Player2");
+        gameState.makeMove(0, 1, "SMALL", "RED");
+        gameState.makeMove(1, 0, "SMALL", "BLUE");
+        gameState.makeMove(2, 0, "SMALL", "RED");
+        gameState.makeMove(0, 1, "MEDIUM", "BLUE");
+        gameState.makeMove(2, 2, "MEDIUM", "RED");
+        gameState.makeMove(1, 2, "LARGE", "BLUE");
+        gameState.makeMove(0, 0, "MEDIUM", "RED");
+        gameState.makeMove(0, 2, "MEDIUM", "BLUE");
+        gameState.makeMove(2, 1, "SMALL", "RED");
+        gameState.makeMove(0, 1, "LARGE", "BLUE");
+        gameState.makeMove(1, 2, "MEDIUM", "RED");
+        gameState.makeMove(1, 0, "MEDIUM", "BLUE");
+        gameState.makeMove(1, 0, "LARGE", "RED");
+        gameState.makeMove(1, 1, "SMALL", "BLUE");
+        gameState.makeMove(2, 2, "LARGE", "RED");
+        gameState.makeMove(1, 1, "LARGE", "BLUE");
+        gameState.makeMove(2, 0, "LARGE", "RED");
+
+        // When
+        boolean placed = gameState.makeMove(2, 2, "SMALL", "BLUE");
+
+        // Then
+        assertTrue(placed);
+        assertEquals("FINISHED", gameState.getStatus());
+        assertNull(gameState.getWinner());
+        assertNull(gameState.getWinningLine());
+        assertEquals(18, gameState.moveCount());
+    }
+
     // ========== CONSTANTS TESTS ==========
 
     @Test
@@ -419,4 +640,22 @@ class GameStateTest {
         assertArrayEquals(new String[]{"RED", "BLUE", "GREEN", "YELLOW"}, GameState.COLORS);
         assertArrayEquals(new String[]{"SMALL", "MEDIUM", "LARGE"}, GameState.SIZES);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Win tables should be complete whichever model class initializes first")
+    void classInit_MoveFirst_ShouldStillBuildWinTables() throws Exception {
+        // Given: a loader that sees the model classes afresh, so none of them is initialized yet
+        URL classes = Move.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+
+            // When
+            Class.forName(Move.class.getName(), true, loader);
+            Class<?> winPatterns = Class.forName(WinPatterns.class.getName(), true, loader);
+
+            // Then
+            assertEquals(WinPatterns.ALL_SLOTS, winPatterns.getField("ALL_SLOTS").getInt(null));
+            int[] through = (int[]) winPatterns.getMethod("through", int.class).invoke(null, 0);
+            assertArrayEquals(WinPatterns.through(0), through);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.unitbase.game.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveRequestTest {
+
+    private static Validator validator;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeAll
+    static void setUpValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    @DisplayName("JSON body should bind size and color straight to enums")
+    void deserialize_ShouldBindEnums() throws Exception {
+        // When
+        MoveRequest move = mapper.readValue(
+                "{\"row\":1,\"col\":2,\"size\":\"LARGE\",\"playerColor\":\"BLUE\"}", MoveRequest.class);
+
+        // Then
+        assertEquals(new MoveRequest(1, 2, RingSize.LARGE, PlayerColor.BLUE), move);
+        assertTrue(validator.validate(move).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Unknown ring size should fail deserialization")
+    void deserialize_UnknownSize_ShouldFail() {
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue(
+                "{\"row\":1,\"col\":2,\"size\":\"HUGE\",\"playerColor\":\"RED\"}", MoveRequest.class));
+    }
+
+    @Test
+    @DisplayName("Out-of-range or missing coordinates should fail validation")
+    void validate_OutOfRangeOrMissing_ShouldReportViolations() {
+        // Given
+        MoveRequest outOfRange = new MoveRequest(3, -1, RingSize.SMALL, PlayerColor.RED);
+        MoveRequest missing = new MoveRequest(null, 0, null, PlayerColor.RED);
+
+        // Then
+        assertEquals(2, validator.validate(outOfRange).size());
+        assertEquals(2, validator.validate(missing).size());
+    }
+
+    @Test
+    @DisplayName("Blank player name should fail validation")
+    void validate_BlankPlayerName_ShouldReportViolation() {
+        assertEquals(1, validator.validate(new JoinRequest(" ")).size());
+        assertTrue(validator.validate(new JoinRequest("player2")).isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package com.unitbase.game.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Bucket should allow a burst, then refill at the configured rate")
+    void tryAcquire_ShouldAllowBurstThenRefill() {
+        // Given - 10 tokens per second, up to 5 at once
+        long start = 123 * SECOND;
+        TokenBucket bucket = new TokenBucket(10, 5, start);
+
+        // When
+        int allowed = 0;
+        while (bucket.tryAcquire(start) == 0) {
+            allowed++;
+        }
+        long wait = bucket.tryAcquire(start);
+
+        // Then
+        assertEquals(5, allowed);
+        assertEquals(SECOND / 10, wait);
+        assertEquals(0, bucket.tryAcquire(start + SECOND / 10));
+        assertNotEquals(0, bucket.tryAcquire(start + SECOND / 10));
+        assertFalse(bucket.isFull(start + SECOND / 10));
+        assertTrue(bucket.isFull(start + SECOND));
+    }
+
+    @Test
+    @DisplayName("Concurrent callers should never take more tokens than the bucket holds")
+    void tryAcquire_Concurrent_ShouldNotOverAdmit() throws Exception {
+        // Given - a frozen clock, so only the burst can ever be granted
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(1, 1000, now);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+
+        // When
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (bucket.tryAcquire(now) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        ready.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(1000, granted.get());
+    }
+
+    @Test
+    @DisplayName("Limiter should keep separate buckets per key and drop refilled ones")
+    void rateLimiter_ShouldTrackKeysSeparately() {
+        // Given
+        long now = 0;
+        RateLimiter limiter = new RateLimiter(1, 1);
+
+        // When
+        long first = limiter.tryAcquire("10.0.0.1", now);
+        long second = limiter.tryAcquire("10.0.0.1", now);
+        long other = limiter.tryAcquire("10.0.0.2", now);
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(SECOND, second);
+        assertEquals(0, other);
+        assertEquals(0, limiter.evictFull(now));
+        assertEquals(2, limiter.evictFull(now + SECOND));
+        assertEquals(0, limiter.size());
+    }
+}
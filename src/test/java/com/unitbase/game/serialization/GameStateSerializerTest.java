@@ -0,0 +1,55 @@
+package com.unitbase.game.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Move;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+class GameStateSerializerTest {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper();
+    private final ObjectMapper customMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(new GameStateSerializer()));
+
+    @Test
+    @DisplayName("Serializer should match the default mapper for waiting games")
+    void serialize_WaitingGame_ShouldMatchDefaultMapper() throws Exception {
+        // Given
+        GameState empty = new GameState();
+        GameState onePlayer = new GameState();
+        onePlayer.addPlayer("player1");
+
+        // Then
+        assertEquals(defaultMapper.writeValueAsString(empty), customMapper.writeValueAsString(empty));
+        assertEquals(defaultMapper.writeValueAsString(onePlayer), customMapper.writeValueAsString(onePlayer));
+    }
+
+    @Test
+    @DisplayName("Serializer should match the default mapper after every move of random games")
+    void serialize_RandomGames_ShouldMatchDefaultMapper() throws Exception {
+        SplittableRandom random = new SplittableRandom(36);
+        int[] moves = new int[Move.MAX_CODES];
+
+        for (int g = 0; g < 50; g++) {
+            // Given
+            GameState game = new GameState();
+            game.addPlayer("player1");
+            game.addPlayer("player2");
+
+            int count;
+            while ((count = game.legalMoves(moves)) > 0) {
+                Move move = Move.decode(moves[random.nextInt(count)]);
+                game.makeMove(move.row(), move.col(), move.size(), game.getCurrentPlayer().getColor());
+
+                // Then
+                assertEquals(defaultMapper.writeValueAsString(game), customMapper.writeValueAsString(game));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.unitbase.game.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.MoveRequest;
+import com.unitbase.game.model.PlayerColor;
+import com.unitbase.game.model.RingSize;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class WireFormatTest {
+
+    @Test
+    @DisplayName("Encoded game should pack board, inventories and winning line at fixed offsets")
+    void encode_FinishedGame_ShouldPackFields() {
+        // Given
+        GameState game = new GameState("g1");
+        game.addPlayer("Ann");
+        game.addPlayer("Bob");
+        game.makeMove(0, 0, "SMALL", "RED");
+        game.makeMove(1, 0, "SMALL", "BLUE");
+        game.makeMove(0, 1, "SMALL", "RED");
+        game.makeMove(1, 1, "SMALL", "BLUE");
+        game.makeMove(0, 2, "SMALL", "RED");
+
+        // When
+        ByteBuffer wire = ByteBuffer.wrap(WireFormat.encode(game));
+
+        // Then
+        assertEquals(WireFormat.FIXED_LENGTH + 3 + 4 + 4, wire.remaining());
+        assertEquals(WireFormat.FORMAT_VERSION, wire.get(0));
+        int flags = wire.get(1);
+        assertEquals(2, flags & 3);               // FINISHED
+        assertEquals(2, (flags >> 3) & 3);        // two players
+        assertEquals(1, (flags >> 5) & 7);        // RED won
+        assertEquals(game.getVersion(), wire.getInt(2));
+        assertEquals(game.getLastActivity(), wire.getLong(6));
+        assertEquals(1 | 1 << 3 | 1 << 6, wire.getInt(14));
+        assertEquals(1 << 9 | 1 << 12, wire.getInt(18));
+        int inventory = (wire.get(22) & 0xFF) << 16 | wire.getShort(23) & 0xFFFF;
+        assertEquals(0, inventory & 7);           // RED has no SMALL rings left
+        assertEquals(1, (inventory >> 9) & 7);    // BLUE has one
+        assertEquals(0b111, wire.getShort(25));   // top row
+        assertEquals(2, wire.get(WireFormat.FIXED_LENGTH));
+        assertEquals("g1", new String(wire.array(), WireFormat.FIXED_LENGTH + 1, 2, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Move bodies should decode to requests and reject malformed input")
+    void decodeMove_ShouldDecodeOrReject() {
+        assertEquals(new MoveRequest(2, 1, RingSize.MEDIUM, PlayerColor.BLUE),
+                WireFormat.decodeMove(new byte[]{22, 1}));
+        assertNull(WireFormat.decodeMove(new byte[]{27, 0}));
+        assertNull(WireFormat.decodeMove(new byte[]{0, 4}));
+        assertNull(WireFormat.decodeMove(new byte[]{0}));
+        assertNull(WireFormat.decodeMove(new byte[]{0, 0, 0}));
+    }
+
+    @Test
+    @DisplayName("Strings longer than the one-byte length prefix should be rejected")
+    void encode_OverlongName_ShouldThrow() {
+        // Given
+        GameState game = new GameState("g1");
+        game.addPlayer("é".repeat(128));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.encode(game));
+    }
+}
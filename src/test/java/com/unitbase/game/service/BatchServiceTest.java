@@ -0,0 +1,248 @@
+package com.unitbase.game.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.unitbase.game.cluster.ClusterService;
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.BatchOperation;
+import com.unitbase.game.model.BatchOperation.Op;
+import com.unitbase.game.model.BatchResult;
+import com.unitbase.game.model.PlayerColor;
+import com.unitbase.game.model.RingSize;
+import com.unitbase.game.ratelimit.RateLimits;
+import com.unitbase.game.serialization.GameStateSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchServiceTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(new GameStateSerializer()));
+    private static final String CLIENT = "127.0.0.1";
+    private static final RateLimits UNLIMITED = new RateLimits(1e9, 1_000_000, 1e9, 1_000_000);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private GameService gameService;
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+        ClusterService cluster = new ClusterService(gameService, "", List.of(), 128, "forward", "");
+        batchService = new BatchService(gameService, cluster, UNLIMITED, mapper, executor, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static BatchOperation create() {
+        return new BatchOperation(Op.CREATE, null, null, null, null, null, null);
+    }
+
+    private static BatchOperation join(String gameId, String playerName) {
+        return new BatchOperation(Op.JOIN, gameId, playerName, null, null, null, null);
+    }
+
+    private static BatchOperation move(String gameId, int row, int col, RingSize size, PlayerColor color) {
+        return new BatchOperation(Op.MOVE, gameId, null, row, col, size, color);
+    }
+
+    private static BatchOperation get(String gameId) {
+        return new BatchOperation(Op.GET, gameId, null, null, null, null, null);
+    }
+
+    private JsonNode game(BatchResult result) throws Exception {
+        return mapper.readTree(mapper.writeValueAsString(result)).get("game");
+    }
+
+    @Test
+    @DisplayName("A created game should be playable through references in the same batch")
+    void execute_ShouldResolveReferencesToCreatedGame() throws Exception {
+        // Given
+        List<BatchOperation> operations = List.of(
+                create(),
+                join("$0", "alice"),
+                join("$0", "bob"),
+                move("$0", 0, 0, RingSize.SMALL, PlayerColor.RED),
+                move("$0", 0, 1, RingSize.SMALL, PlayerColor.RED));
+
+        // When
+        List<BatchResult> results = batchService.execute(operations, CLIENT);
+
+        // Then
+        assertEquals(5, results.size());
+        String gameId = game(results.get(0)).get("gameId").asText();
+        assertEquals("WAITING", game(results.get(1)).get("status").asText());
+        assertEquals("PLAYING", game(results.get(2)).get("status").asText());
+        assertEquals(200, results.get(3).status());
+        assertEquals(gameId, game(results.get(3)).get("gameId").asText());
+        assertEquals(1, game(results.get(3)).get("currentPlayerIndex").asInt());
+        assertEquals(400, results.get(4).status());
+        assertEquals("NOT_YOUR_TURN", results.get(4).result());
+        assertEquals(1, gameService.getGame(gameId).moveCount());
+    }
+
+    @Test
+    @DisplayName("Each result should show the game as it was right after its own operation")
+    void execute_ShouldSnapshotEachResult() throws Exception {
+        // Given
+        String gameId = gameService.createGame().getGameId();
+        gameService.joinGame(gameId, "alice");
+        gameService.joinGame(gameId, "bob");
+
+        // When
+        List<BatchResult> results = batchService.execute(List.of(
+                move(gameId, 1, 1, RingSize.LARGE, PlayerColor.RED),
+                move(gameId, 2, 2, RingSize.LARGE, PlayerColor.BLUE),
+                get(gameId)), CLIENT);
+
+        // Then
+        assertTrue(game(results.get(0)).get("version").asInt() < game(results.get(1)).get("version").asInt());
+        assertEquals(1, game(results.get(0)).get("currentPlayerIndex").asInt());
+        assertEquals(0, game(results.get(1)).get("currentPlayerIndex").asInt());
+        assertEquals(game(results.get(1)), game(results.get(2)));
+    }
+
+    @Test
+    @DisplayName("Independent games should all be played out when run in parallel")
+    void execute_ShouldRunManyGamesInParallel() throws Exception {
+        // Given
+        List<BatchOperation> operations = new ArrayList<>();
+        for (int g = 0; g < 50; g++) {
+            String ref = "$" + operations.size();
+            operations.add(create());
+            operations.add(join(ref, "red" + g));
+            operations.add(join(ref, "blue" + g));
+            operations.add(move(ref, 0, 0, RingSize.SMALL, PlayerColor.RED));
+            operations.add(move(ref, 1, 0, RingSize.SMALL, PlayerColor.BLUE));
+            operations.add(move(ref, 0, 1, RingSize.SMALL, PlayerColor.RED));
+            operations.add(move(ref, 1, 1, RingSize.MEDIUM, PlayerColor.BLUE));
+            operations.add(move(ref, 0, 2, RingSize.SMALL, PlayerColor.RED));
+        }
+
+        // When
+        List<BatchResult> results = batchService.execute(operations, CLIENT);
+
+        // Then
+        assertEquals(operations.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(200, results.get(i).status(), "operation " + i);
+        }
+        for (int i = 7; i < results.size(); i += 8) {
+            assertEquals("FINISHED", game(results.get(i)).get("status").asText());
+            assertEquals("RED", game(results.get(i)).get("winner").asText());
+        }
+        assertEquals(50, gameService.findGames(game -> "FINISHED".equals(game.getStatus())).size());
+    }
+
+    @Test
+    @DisplayName("Bad operations should fail alone without stopping the rest")
+    void execute_ShouldReportFailuresPerOperation() {
+        // Given
+        String gameId = gameService.createGame().getGameId();
+
+        // When
+        List<BatchResult> results = batchService.execute(List.of(
+                get("missing"),
+                join(gameId, ""),
+                move(gameId, 3, 0, RingSize.SMALL, PlayerColor.RED),
+                join("$0", "alice"),
+                join("$9", "alice"),
+                join(gameId, "alice"),
+                join(gameId, "bob"),
+                join(gameId, "carol")), CLIENT);
+
+        // Then
+        assertEquals(404, results.get(0).status());
+        assertEquals("UNKNOWN_GAME", results.get(0).result());
+        assertEquals("INVALID_REQUEST", results.get(1).result());
+        assertEquals("INVALID_REQUEST", results.get(2).result());
+        assertEquals("INVALID_REFERENCE", results.get(3).result());
+        assertEquals("INVALID_REFERENCE", results.get(4).result());
+        assertEquals(200, results.get(5).status());
+        assertEquals(200, results.get(6).status());
+        assertEquals("JOIN_REFUSED", results.get(7).result());
+    }
+
+    @Test
+    @DisplayName("Operations on another node's game should point at that node")
+    void execute_ShouldRedirectGamesOwnedElsewhere() {
+        // Given
+        String self = "http://a:8080";
+        ClusterService cluster = new ClusterService(gameService, self, List.of(self, "http://b:8080"), 128, "forward", "s3cret");
+        batchService = new BatchService(gameService, cluster, UNLIMITED, mapper, executor, 1000);
+        String remote;
+        do {
+            remote = UUID.randomUUID().toString();
+        } while (cluster.owns(remote));
+
+        // When
+        List<BatchResult> results = batchService.execute(List.of(get(remote), create(), join("$1", "alice")), CLIENT);
+
+        // Then
+        assertEquals(421, results.get(0).status());
+        assertEquals("http://b:8080", results.get(0).owner());
+        assertEquals(200, results.get(1).status());
+        assertEquals(200, results.get(2).status());
+    }
+
+    @Test
+    @DisplayName("Each operation should cost the client a token, the request's own paying for the first")
+    void execute_ShouldChargeClientPerOperation() {
+        // Given
+        String gameId = gameService.createGame().getGameId();
+        RateLimits limits = new RateLimits(1e-9, 2, 1e9, 1_000_000);
+        ClusterService cluster = new ClusterService(gameService, "", List.of(), 128, "forward", "");
+        batchService = new BatchService(gameService, cluster, limits, mapper, executor, 1000);
+
+        // When
+        List<BatchResult> results = batchService.execute(List.of(
+                get(gameId), join(gameId, ""), get(gameId), get(gameId), get(gameId)), CLIENT);
+
+        // Then
+        assertEquals(200, results.get(0).status());
+        assertEquals("INVALID_REQUEST", results.get(1).result());
+        assertEquals(200, results.get(2).status());
+        assertEquals(200, results.get(3).status());
+        assertEquals(429, results.get(4).status());
+        assertEquals("RATE_LIMITED", results.get(4).result());
+        assertNotEquals(0, limits.tryAcquireClient(CLIENT, System.nanoTime()));
+    }
+
+    @Test
+    @DisplayName("Each operation should cost its game a token")
+    void execute_ShouldChargeGamePerOperation() {
+        // Given
+        String busy = gameService.createGame().getGameId();
+        String quiet = gameService.createGame().getGameId();
+        RateLimits limits = new RateLimits(1e9, 1_000_000, 1e-9, 2);
+        ClusterService cluster = new ClusterService(gameService, "", List.of(), 128, "forward", "");
+        batchService = new BatchService(gameService, cluster, limits, mapper, executor, 1000);
+
+        // When
+        List<BatchResult> results = batchService.execute(List.of(
+                get(busy), get(busy), get(busy), get(quiet)), CLIENT);
+
+        // Then
+        assertEquals(200, results.get(0).status());
+        assertEquals(200, results.get(1).status());
+        assertEquals("RATE_LIMITED", results.get(2).result());
+        assertEquals(200, results.get(3).status());
+    }
+}
@@ -0,0 +1,215 @@
+package com.unitbase.game.service;
+
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.GameSummary;
+import com.unitbase.game.model.MoveOutcome;
+import com.unitbase.game.model.MoveResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServiceTest {
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+    }
+
+    private String startGame(String red, String blue) {
+        String gameId = gameService.createGame().getGameId();
+        gameService.joinGame(gameId, red);
+        if (blue != null) {
+            gameService.joinGame(gameId, blue);
+        }
+        return gameId;
+    }
+
+    @Test
+    @DisplayName("An accepted move should hand back the game it changed")
+    void makeMove_ShouldReturnGameWithResult() {
+        // Given
+        String gameId = startGame("alice", "bob");
+
+        // When
+        MoveOutcome accepted = gameService.makeMove(gameId, 1, 1, "LARGE", "RED");
+        MoveOutcome rejected = gameService.makeMove(gameId, 1, 1, "LARGE", "BLUE");
+        MoveOutcome unknown = gameService.makeMove("missing", 0, 0, "SMALL", "RED");
+
+        // Then
+        assertTrue(accepted.isOk());
+        assertSame(gameService.getGame(gameId), accepted.game());
+        assertEquals(1, accepted.game().moveCount());
+        assertEquals(MoveResult.CELL_OCCUPIED, rejected.result());
+        assertNull(rejected.game());
+        assertEquals(MoveResult.UNKNOWN_GAME, unknown.result());
+    }
+
+    @Test
+    @DisplayName("Should list summaries of every game a player has joined")
+    void getPlayerGames_ShouldSummarizeEachGame() {
+        // Given
+        String first = startGame("alice", "bob");
+        String second = startGame("carol", "alice");
+        String waiting = startGame("alice", null);
+
+        // When
+        List<GameSummary> games = gameService.getPlayerGames("alice");
+
+        // Then
+        assertEquals(3, games.size());
+        GameSummary asRed = games.stream().filter(g -> g.gameId().equals(first)).findFirst().orElseThrow();
+        assertEquals("RED", asRed.color());
+        assertEquals("bob", asRed.opponent());
+        assertTrue(asRed.yourTurn());
+        GameSummary asBlue = games.stream().filter(g -> g.gameId().equals(second)).findFirst().orElseThrow();
+        assertEquals("BLUE", asBlue.color());
+        assertFalse(asBlue.yourTurn());
+        GameSummary alone = games.stream().filter(g -> g.gameId().equals(waiting)).findFirst().orElseThrow();
+        assertEquals("WAITING", alone.status());
+        assertNull(alone.opponent());
+        assertTrue(gameService.getPlayerGames("nobody").isEmpty());
+    }
+
+    @Test
+    @DisplayName("A join that races with removal should not leave a stale index entry")
+    void joinGame_RemovedWhileJoining_ShouldNotIndexPlayer() {
+        // Given - the game is evicted right after it accepts the player, before the join indexes them
+        GameState game = new GameState("g1") {
+            @Override
+            public boolean addPlayer(String playerName) {
+                boolean added = super.addPlayer(playerName);
+                gameService.removeGame(getGameId());
+                return added;
+            }
+        };
+        gameService.adoptGame(game);
+
+        // When
+        gameService.joinGame("g1", "alice");
+
+        // Then
+        Map<?, ?> gamesByPlayer = (Map<?, ?>) ReflectionTestUtils.getField(gameService, "gamesByPlayer");
+        assertNull(gameService.getGame("g1"));
+        assertTrue(gamesByPlayer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Finished and removed games should leave the player index")
+    void getPlayerGames_FinishedOrRemoved_ShouldBeDropped() {
+        // Given
+        String finished = startGame("alice", "bob");
+        String removed = startGame("alice", "carol");
+        String idle = startGame("alice", "dave");
+        gameService.getGame(idle).setLastActivity(0);
+
+        // When - RED completes the top row
+        gameService.makeMove(finished, 0, 0, "SMALL", "RED");
+        gameService.makeMove(finished, 1, 0, "SMALL", "BLUE");
+        gameService.makeMove(finished, 0, 1, "SMALL", "RED");
+        gameService.makeMove(finished, 1, 1, "SMALL", "BLUE");
+        gameService.makeMove(finished, 0, 2, "SMALL", "RED");
+        gameService.removeGame(removed);
+        gameService.evictIdleGames(60_000, System.currentTimeMillis());
+
+        // Then
+        GameState game = gameService.getGame(finished);
+        assertEquals("FINISHED", game.getStatus());
+        assertTrue(gameService.getPlayerGames("alice").isEmpty());
+        assertTrue(gameService.getPlayerGames("bob").isEmpty());
+        assertTrue(gameService.getPlayerGames("carol").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Listing pages should cover every matching game once, in order")
+    void listGames_Paging_ShouldVisitEachMatchingGameOnce() {
+        // Given
+        List<String> playing = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            playing.add(startGame("p" + i, "q" + i));
+        }
+        String waiting = startGame("alone", null);
+        long now = System.currentTimeMillis();
+
+        // When
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        List<GameState> page;
+        do {
+            page = gameService.listGames("PLAYING", 0, cursor, 3, now);
+            for (GameState game : page) {
+                seen.add(game.getGameId());
+                cursor = game.getGameId();
+            }
+        } while (page.size() == 3);
+
+        // Then
+        assertEquals(playing.stream().sorted(GameService.LISTING_ORDER).toList(), seen);
+        assertFalse(seen.contains(waiting));
+        assertEquals(8, gameService.listGames(null, 0, null, 100, now).size());
+        assertTrue(gameService.listGames(null, 60_000, null, 100, now).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Listing should resume after a cursor whose game has since been removed")
+    void listGames_CursorGameRemoved_ShouldResume() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(startGame("p" + i, "q" + i));
+        }
+        ids.sort(GameService.LISTING_ORDER);
+        long now = System.currentTimeMillis();
+        String cursor = gameService.listGames(null, 0, null, 2, now).get(1).getGameId();
+
+        // When
+        gameService.removeGame(cursor);
+        gameService.removeGame(ids.get(3));
+        List<GameState> rest = gameService.listGames(null, 0, cursor, 10, now);
+
+        // Then
+        assertEquals(List.of(ids.get(2), ids.get(4)), rest.stream().map(GameState::getGameId).toList());
+    }
+
+    @Test
+    @DisplayName("Creating a game should give up when no drawn id is owned by this node")
+    void createGame_NoOwnedIds_ShouldBeRefused() {
+        // Given
+        gameService.setOwnership(gameId -> false);
+
+        // When & Then
+        assertNull(gameService.createGame());
+        gameService.setOwnership(GameService.OWNS_NOTHING);
+        assertNull(gameService.createGame());
+        assertTrue(gameService.findGames(game -> true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Creating games should stop at the admission budget")
+    void createGame_OverBudget_ShouldBeRefused() {
+        // Given
+        ReflectionTestUtils.setField(gameService, "admissionControl", new AdmissionControl(2, Double.POSITIVE_INFINITY));
+        gameService.createGame();
+        String second = gameService.createGame().getGameId();
+
+        // When
+        GameState refused = gameService.createGame();
+        gameService.removeGame(second);
+        GameState afterRemoval = gameService.createGame();
+
+        // Then
+        assertNull(refused);
+        assertNotNull(afterRemoval);
+    }
+}
@@ -0,0 +1,94 @@
+package com.unitbase.game.service;
+
+import com.unitbase.game.engine.OpeningBook;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.model.Hint;
+import com.unitbase.game.model.Move;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HintServiceTest {
+
+    @Mock
+    private GameService gameService;
+
+    private HintService hintService;
+
+    @BeforeEach
+    void setUp() {
+        hintService = new HintService(gameService, OpeningBook.build(2, 2), 3, 1 << 20);
+    }
+
+    private GameState gameWith(String id, Move... moves) {
+        GameState game = new GameState(id);
+        game.addPlayer("Player1");
+        game.addPlayer("Player2");
+        for (Move move : moves) {
+            game.makeMove(move.row(), move.col(), move.size(), game.getCurrentPlayer().getColor());
+        }
+        when(gameService.getGame(id)).thenReturn(game);
+        return game;
+    }
+
+    @Test
+    void getHint_UnknownGame_ShouldReturnNull() {
+        // Given
+        when(gameService.getGame("missing")).thenReturn(null);
+
+        // When & Then
+        assertNull(hintService.getHint("missing"));
+    }
+
+    @Test
+    void getHint_GameNotPlaying_ShouldReturnEmptyHint() {
+        // Given
+        GameState game = new GameState("waiting");
+        when(gameService.getGame("waiting")).thenReturn(game);
+
+        // When & Then
+        assertEquals(Hint.NONE, hintService.getHint("waiting"));
+    }
+
+    @Test
+    void getHint_ShouldReportWinsAndBlocks() {
+        // Given - RED has two SMALL rings in the top row, BLUE two LARGE rings in the left column
+        gameWith("game", new Move(0, 0, "SMALL"), new Move(1, 0, "LARGE"),
+                new Move(0, 1, "SMALL"), new Move(2, 0, "LARGE"));
+
+        // When
+        Hint hint = hintService.getHint("game");
+
+        // Then
+        assertTrue(hint.immediateWins().contains(new Move(0, 2, "SMALL")));
+        assertEquals(List.of(new Move(0, 0, "LARGE")), hint.forcedBlocks());
+        assertTrue(hint.immediateWins().contains(hint.recommended()));
+    }
+
+    @Test
+    void getHint_MirroredPositions_ShouldShareCacheEntry() {
+        // Given - the same opening mirrored left to right
+        gameWith("left", new Move(0, 0, "SMALL"), new Move(1, 1, "LARGE"), new Move(0, 1, "SMALL"));
+        gameWith("right", new Move(0, 2, "SMALL"), new Move(1, 1, "LARGE"), new Move(0, 1, "SMALL"));
+
+        // When
+        Hint left = hintService.getHint("left");
+        Hint right = hintService.getHint("right");
+
+        // Then
+        assertEquals(1, hintService.getCache().size());
+        assertEquals(1, hintService.getCache().getHitCount());
+        assertEquals(List.of(new Move(0, 2, "SMALL")), left.forcedBlocks());
+        assertEquals(List.of(new Move(0, 0, "SMALL")), right.forcedBlocks());
+        Move mirrored = new Move(left.recommended().row(), 2 - left.recommended().col(), left.recommended().size());
+        assertEquals(mirrored, right.recommended());
+    }
+}
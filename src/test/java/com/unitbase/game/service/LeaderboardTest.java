@@ -0,0 +1,45 @@
+package com.unitbase.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("Ranks and pages should match a full sort, with many players sharing a rating")
+    void rankAndPage_ShouldMatchSortedOrder() {
+        // Given - most players stay on the starting rating, the rest are spread around it
+        Leaderboard leaderboard = new Leaderboard();
+        Random random = new Random(7);
+        for (int update = 0; update < 5000; update++) {
+            String name = "p" + random.nextInt(2000);
+            double rating = random.nextInt(4) == 0 ? 1500 + random.nextInt(200) - 100 : 1500;
+            leaderboard.put(new Leaderboard.Standing(name, rating, update, 0, 0, 0));
+        }
+
+        // When
+        List<Leaderboard.Standing> all = leaderboard.page(0, Integer.MAX_VALUE);
+
+        // Then
+        List<Leaderboard.Standing> expected = new ArrayList<>(all);
+        expected.sort(Comparator.comparingDouble(Leaderboard.Standing::rating).reversed()
+                .thenComparing(Leaderboard.Standing::playerName));
+        assertEquals(leaderboard.size(), all.size());
+        assertEquals(expected, all);
+        for (int i = 0; i < all.size(); i++) {
+            assertSame(leaderboard.get(all.get(i).playerName()), all.get(i));
+            assertEquals(i + 1, leaderboard.rank(all.get(i).playerName()));
+        }
+        assertEquals(all.subList(1234, 1284), leaderboard.page(1234, 50));
+        assertEquals(all.subList(all.size() - 3, all.size()), leaderboard.page(all.size() - 3, 50));
+        assertTrue(leaderboard.page(all.size(), 50).isEmpty());
+        assertEquals(0, leaderboard.rank("nobody"));
+    }
+}
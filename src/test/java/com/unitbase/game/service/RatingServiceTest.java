@@ -0,0 +1,100 @@
+package com.unitbase.game.service;
+
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.PlayerRating;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingServiceTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private GameService gameService;
+    private RatingService ratingService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+        ratingService = new RatingService(gameService, tasks::add, 32);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    // RED completes the top row with small rings
+    private void redWins(String red, String blue) {
+        String gameId = gameService.createGame().getGameId();
+        gameService.joinGame(gameId, red);
+        gameService.joinGame(gameId, blue);
+        gameService.makeMove(gameId, 0, 0, "SMALL", "RED");
+        gameService.makeMove(gameId, 1, 0, "SMALL", "BLUE");
+        gameService.makeMove(gameId, 0, 1, "SMALL", "RED");
+        gameService.makeMove(gameId, 1, 1, "SMALL", "BLUE");
+        gameService.makeMove(gameId, 0, 2, "SMALL", "RED");
+    }
+
+    @Test
+    @DisplayName("Finished games should update ratings in one batch off the move path")
+    void finishedGames_ShouldUpdateRatingsInBatch() {
+        // Given
+        redWins("alice", "bob");
+        redWins("alice", "carol");
+
+        // When
+        assertNull(ratingService.getRating("alice"));
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        // Then
+        PlayerRating alice = ratingService.getRating("alice");
+        PlayerRating bob = ratingService.getRating("bob");
+        PlayerRating carol = ratingService.getRating("carol");
+        assertEquals(1500 + 16 + 32 * (1 - 1 / (1 + Math.pow(10, (1500 - 1516) / 400.0))), alice.rating(), 1e-9);
+        assertEquals(1484, bob.rating(), 1e-9);
+        assertEquals(3000 - alice.rating() + 16, carol.rating(), 1e-9);
+        assertEquals(2, alice.wins());
+        assertEquals(1, bob.losses());
+        assertEquals(1, alice.rank());
+        assertEquals(2, carol.rank());
+        assertEquals(3, bob.rank());
+        assertNull(ratingService.getRating("dave"));
+    }
+
+    @Test
+    @DisplayName("Leaderboard pages should follow rating order")
+    void getLeaderboard_ShouldPageInRatingOrder() {
+        // Given - each player beats the next one in line
+        List<String> players = List.of("p0", "p1", "p2", "p3", "p4");
+        for (int i = 0; i < players.size() - 1; i++) {
+            redWins(players.get(i), players.get(i + 1));
+        }
+        runTasks();
+
+        // When
+        List<PlayerRating> all = ratingService.getLeaderboard(0, 10);
+        List<PlayerRating> second = ratingService.getLeaderboard(2, 2);
+
+        // Then
+        assertEquals(5, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).rating() >= all.get(i).rating());
+            assertEquals(i + 1, all.get(i).rank());
+            assertEquals(all.get(i).rank(), ratingService.getRating(all.get(i).playerName()).rank());
+        }
+        assertEquals(all.subList(2, 4), second);
+        assertTrue(ratingService.getLeaderboard(5, 10).isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+package com.unitbase.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.unitbase.game.metrics.GameMetrics;
+import com.unitbase.game.model.GameState;
+import com.unitbase.game.serialization.GameStateSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorHubTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private GameService gameService;
+    private SpectatorHub hub;
+    private GameState game;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService();
+        ReflectionTestUtils.setField(gameService, "metrics", new GameMetrics(new SimpleMeterRegistry()));
+        ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(new GameStateSerializer()));
+        hub = new SpectatorHub(gameService, mapper, tasks::add, 0, 2);
+
+        game = gameService.createGame();
+        gameService.joinGame(game.getGameId(), "Player1");
+        gameService.joinGame(game.getGameId(), "Player2");
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /** Records what would have been written to the connection. */
+    private static class RecordingEmitter extends ResponseBodyEmitter {
+        final List<Object> frames = new ArrayList<>();
+
+        @Override
+        public void send(Object data, MediaType mediaType) {
+            assertEquals(MediaType.TEXT_EVENT_STREAM, mediaType);
+            frames.add(data);
+        }
+
+        String last() {
+            return new String((byte[]) frames.get(frames.size() - 1), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("New spectators should receive the current state")
+    void subscribe_ShouldSendCurrentState() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        hub.subscribe(game, emitter);
+        runTasks();
+
+        // Then
+        assertEquals(1, emitter.frames.size());
+        assertTrue(emitter.last().startsWith("id:" + game.getVersion() + "\nevent:state\ndata:{\"gameId\""));
+        assertTrue(emitter.last().endsWith("}\n\n"));
+    }
+
+    @Test
+    @DisplayName("A burst of moves should be coalesced into one frame shared by all spectators")
+    void burst_ShouldBeCoalescedIntoOneFrame() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.subscribe(game, first);
+        hub.subscribe(game, second);
+        runTasks();
+
+        // When - three moves land before the broadcast gets to run
+        gameService.makeMove(game.getGameId(), 0, 0, "SMALL", "RED");
+        gameService.makeMove(game.getGameId(), 1, 1, "SMALL", "BLUE");
+        gameService.makeMove(game.getGameId(), 2, 2, "SMALL", "RED");
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        // Then
+        assertEquals(2, first.frames.size());
+        assertTrue(first.last().startsWith("id:" + game.getVersion() + "\n"));
+        assertSame(first.frames.get(1), second.frames.get(1));
+    }
+
+    @Test
+    @DisplayName("Should refuse spectators beyond the per-game limit")
+    void subscribe_OverLimit_ShouldReturnNull() {
+        // Given
+        hub.subscribe(game, new RecordingEmitter());
+        hub.subscribe(game, new RecordingEmitter());
+
+        // Then
+        assertNull(hub.subscribe(game, new RecordingEmitter()));
+        assertEquals(2, hub.getSpectatorCount(game.getGameId()));
+    }
+
+    @Test
+    @DisplayName("Changes to games without spectators should not schedule any work")
+    void gameChanged_NoSpectators_ShouldDoNothing() {
+        // When
+        gameService.makeMove(game.getGameId(), 0, 0, "SMALL", "RED");
+
+        // Then
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Frames should hold the state at the change, not whatever the game holds when the broadcast runs")
+    void gameChanged_ShouldSnapshotOnMutatingThread() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(game, emitter);
+        runTasks();
+        gameService.makeMove(game.getGameId(), 0, 0, "SMALL", "RED");
+        int notified = game.getVersion();
+
+        // When - the game moves on before the broadcast runs, without a notification
+        game.makeMove(1, 1, "SMALL", "BLUE");
+        runTasks();
+
+        // Then
+        assertTrue(emitter.last().startsWith("id:" + notified + "\n"));
+        assertNotEquals(notified, game.getVersion());
+    }
+}
@@ -0,0 +1,65 @@
+package com.unitbase.game.tournament;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private static TournamentConfig config(Tournament.Format format, int parallelism) {
+        return new TournamentConfig(format, 300, 3, 42L, parallelism);
+    }
+
+    @Test
+    @DisplayName("Round robin should play every pairing with both color assignments")
+    void roundRobin_ShouldPlayAllGames() {
+        // Given
+        Tournament tournament = new Tournament(
+                List.of(new RandomBot(), new GreedyBot(), new RandomBot()),
+                config(Tournament.Format.ROUND_ROBIN, 4), null);
+
+        // When
+        Crosstable table = tournament.run();
+
+        // Then
+        assertEquals(3 * 300 * 2, table.getGamesPlayed());
+        assertEquals(600, table.getGames(0, 1));
+        assertEquals(List.of("random", "greedy", "random#2"), table.getNames());
+    }
+
+    @Test
+    @DisplayName("Same seed should give identical results regardless of thread count")
+    void run_SameSeed_ShouldBeDeterministic() {
+        // Given
+        List<BotStrategy> bots = List.of(new RandomBot(), new GreedyBot(), new GreedyBot(), new RandomBot());
+
+        // When
+        Crosstable single = new Tournament(bots, config(Tournament.Format.SWISS, 1), null).run();
+        Crosstable parallel = new Tournament(bots, config(Tournament.Format.SWISS, 8), null).run();
+
+        // Then
+        for (int a = 0; a < bots.size(); a++) {
+            for (int b = 0; b < bots.size(); b++) {
+                assertEquals(single.getWins(a, b), parallel.getWins(a, b));
+                assertEquals(single.getDraws(a, b), parallel.getDraws(a, b));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Greedy bot should outrate the random bot")
+    void eloEstimate_GreedyShouldBeatRandom() {
+        // Given
+        Tournament tournament = new Tournament(List.of(new RandomBot(), new GreedyBot()),
+                config(Tournament.Format.ROUND_ROBIN, 2), null);
+
+        // When
+        double[] elo = EloEstimator.estimate(tournament.run());
+
+        // Then
+        assertTrue(elo[1] > elo[0]);
+    }
+}